@@ -15,6 +15,19 @@
  */
 package org.bytemechanics.commons.functional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -36,6 +49,20 @@ import java.util.logging.Logger;
  */
 public final class LambdaUnchecker {
 
+	private static final Logger logger = Logger.getLogger(LambdaUnchecker.class.getName());
+
+	/**
+	 * Default silenced exceptions sink, logs the exception at FINEST level only if this level is loggable
+	 * @since 1.10.0
+	 */
+	public static final Consumer<Exception> LOGGER_SINK = LambdaUnchecker::logSilenced;
+
+	/**
+	 * Current silenced exceptions sink
+	 */
+	private static volatile Consumer<? super Exception> silencedSink = LOGGER_SINK;
+
+
 	/**
 	 * Functional interface for consumers with checked exceptions
 	 * @param <T> consumer input type
@@ -118,6 +145,40 @@ public final class LambdaUnchecker {
 		void run() throws E;
 	}
 
+
+	/**
+	 * Base checked exception for expected and frequent failures (parse errors, validation errors...) thrown through the unchecked wrappers and caught a few frames up.
+	 * It does not fill the stack trace neither keep suppressed exceptions, therefore creating it is cheap.
+	 * Example:
+	 * <pre>
+	 * public class NotANumberException extends LambdaUnchecker.StacklessException{
+	 *	public NotANumberException(final String _value){
+	 *		super("Not a number: "+_value);
+	 *	}
+	 * }
+	 * </pre>
+	 * @since 1.10.0
+	 */
+	public static class StacklessException extends Exception {
+
+		private static final long serialVersionUID = -2317613934170451541L;
+
+		/**
+		 * Stackless exception constructor
+		 * @param _message exception message
+		 */
+		public StacklessException(final String _message) {
+			this(_message, null);
+		}
+		/**
+		 * Stackless exception constructor
+		 * @param _message exception message
+		 * @param _cause exception cause
+		 */
+		public StacklessException(final String _message, final Throwable _cause) {
+			super(_message, _cause, false, false);
+		}
+	}
 	
 	/**
 	 * Wraps consumer lambda returning the consumer but hacking the compiler to avoid compilation check.
@@ -158,8 +219,7 @@ public final class LambdaUnchecker {
 			try {
 				_consumer.accept(t);
 			} catch (Exception e) {
-				Logger.getLogger(LambdaUnchecker.class.getName())
-						.log(Level.FINEST, null, e);
+				silence(e);
 			}
 		};
 	}
@@ -234,8 +294,7 @@ public final class LambdaUnchecker {
 				_biConsumer
 						.accept(t, u);
 			} catch (Exception e) {
-				Logger.getLogger(LambdaUnchecker.class.getName())
-						.log(Level.FINEST, null, e);
+				silence(e);
 			}
 		};
 	}
@@ -320,8 +379,7 @@ public final class LambdaUnchecker {
 			try {
 				return _function.apply(t);
 			} catch (Exception e) {
-				Logger.getLogger(LambdaUnchecker.class.getName())
-						.log(Level.FINEST, null, e);
+				silence(e);
 				return null;
 			}
 		};
@@ -403,8 +461,7 @@ public final class LambdaUnchecker {
 			try {
 				return _supplier.get();
 			} catch (Exception e) {
-				Logger.getLogger(LambdaUnchecker.class.getName())
-						.log(Level.FINEST, null, e);
+				silence(e);
 				return null;
 			}
 		};
@@ -473,8 +530,7 @@ public final class LambdaUnchecker {
 			try {
 				_runnable.run();
 			} catch (Exception e) {
-				Logger.getLogger(LambdaUnchecker.class.getName())
-						.log(Level.FINEST, null, e);
+				silence(e);
 			}
 		};
 	}
@@ -503,13 +559,494 @@ public final class LambdaUnchecker {
 					.run();
 	}
 	
+	/**
+	 * Wraps function lambda returning a function that captures the result or the exception thrown as a Result, never throwing any exception.
+	 * Example:
+	 * <code>.map(tryFunction(Class::forName)).collect(Collectors.partitioningBy(Result::isSuccess))</code>
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to wrap
+	 * @return wrapped function that returns a success Result with the function result or a failure Result with the exception thrown
+	 * @since 1.10.0
+	 * @see Result
+	 * @see FunctionWithExceptions
+	 */
+	public static <T, R, E extends Exception> Function<T, Result<R>> tryFunction(final FunctionWithExceptions<T, R, E> _function) {
+		return t -> Result.of(() -> _function.apply(t));
+	}
+	/**
+	 * Apply function capturing the result or the exception thrown as a Result, never throwing any exception.
+	 * Example:
+	 * <code>tryApply(Class::forName,"java.util.List")</code>
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to apply
+	 * @param _input function input
+	 * @return success Result with the function result or a failure Result with the exception thrown
+	 * @since 1.10.0
+	 * @see Result
+	 * @see FunctionWithExceptions
+	 */
+	public static <T, R, E extends Exception> Result<R> tryApply(final FunctionWithExceptions<T, R, E> _function,final T _input) {
+		return tryFunction(_function)
+					.apply(_input);
+	}
+	/**
+	 * Wraps supplier lambda returning a supplier that captures the result or the exception thrown as a Result, never throwing any exception.
+	 * Example:
+	 * <code>trySupplier(() -&gt; Files.readAllBytes(path))</code>
+	 * @param <T> supplier result
+	 * @param <E> checked exception
+	 * @param _supplier supplier to wrap
+	 * @return wrapped supplier that returns a success Result with the supplier result or a failure Result with the exception thrown
+	 * @since 1.10.0
+	 * @see Result
+	 * @see SupplierWithExceptions
+	 */
+	public static <T, E extends Exception> Supplier<Result<T>> trySupplier(final SupplierWithExceptions<T, E> _supplier) {
+		return () -> Result.of(_supplier);
+	}
+	/**
+	 * Get supplier result capturing the result or the exception thrown as a Result, never throwing any exception.
+	 * Example:
+	 * <code>tryGet(() -&gt; Files.readAllBytes(path))</code>
+	 * @param <T> supplier result
+	 * @param <E> checked exception
+	 * @param _supplier supplier to execute
+	 * @return success Result with the supplier result or a failure Result with the exception thrown
+	 * @since 1.10.0
+	 * @see Result
+	 * @see SupplierWithExceptions
+	 */
+	public static <T, E extends Exception> Result<T> tryGet(final SupplierWithExceptions<T, E> _supplier) {
+		return Result.of(_supplier);
+	}
+
+	/**
+	 * Wraps function lambda returning a function that returns a future completed with the function result or completed exceptionally with the original exception thrown.
+	 * The exception is stored as is in the returned future, without any additional CompletionException wrapping nor new exception creation.
+	 * Example:
+	 * <code>future.thenCompose(uncheckedAsyncFunction(Class::forName))</code>
+	 * Important: As defined by CompletableFuture, dependent stages created from the returned future receive the exception wrapped into a CompletionException,
+	 * use handle() or whenComplete() directly over the returned future to receive the original one
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to wrap
+	 * @return wrapped function that executes _function in the calling thread and returns a completed future
+	 * @since 1.10.0
+	 * @see CompletableFuture#completeExceptionally(java.lang.Throwable)
+	 */
+	public static <T, R, E extends Exception> Function<T, CompletableFuture<R>> uncheckedAsyncFunction(final FunctionWithExceptions<T, R, E> _function) {
+		return t -> {
+			final CompletableFuture<R> reply = new CompletableFuture<>();
+			complete(reply, () -> _function.apply(t));
+			return reply;
+		};
+	}
+	/**
+	 * Wraps function lambda returning a function that executes it in the given executor and returns a future completed with the function result or completed exceptionally with the original exception thrown.
+	 * The exception is stored as is in the returned future, without any additional CompletionException wrapping nor new exception creation.
+	 * Example:
+	 * <code>future.thenCompose(uncheckedAsyncFunction(Class::forName,Executors.newVirtualThreadPerTaskExecutor()))</code>
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to wrap
+	 * @param _executor executor to run the function (any executor can be used, including virtual threads executors)
+	 * @return wrapped function that executes _function in _executor and returns its future
+	 * @since 1.10.0
+	 * @see #uncheckedAsyncFunction(FunctionWithExceptions)
+	 */
+	public static <T, R, E extends Exception> Function<T, CompletableFuture<R>> uncheckedAsyncFunction(final FunctionWithExceptions<T, R, E> _function,final Executor _executor) {
+		return t -> supplyAsyncUnchecked(() -> _function.apply(t), _executor);
+	}
+	/**
+	 * Executes the supplier in the common fork join pool returning a future completed with the supplier result or completed exceptionally with the original exception thrown.
+	 * Unlike CompletableFuture.supplyAsync() the exception is not wrapped into a CompletionException
+	 * Example:
+	 * <code>supplyAsyncUnchecked(() -&gt; Files.readAllBytes(path))</code>
+	 * @param <T> supplier result
+	 * @param <E> checked exception
+	 * @param _supplier supplier to execute
+	 * @return future of the supplier result
+	 * @since 1.10.0
+	 * @see ForkJoinPool#commonPool()
+	 */
+	public static <T, E extends Exception> CompletableFuture<T> supplyAsyncUnchecked(final SupplierWithExceptions<T, E> _supplier) {
+		return supplyAsyncUnchecked(_supplier, ForkJoinPool.commonPool());
+	}
+	/**
+	 * Executes the supplier in the given executor returning a future completed with the supplier result or completed exceptionally with the original exception thrown.
+	 * Unlike CompletableFuture.supplyAsync() the exception is not wrapped into a CompletionException. 
+	 * If the executor rejects the task the future is completed exceptionally with the rejection exception
+	 * Example:
+	 * <code>supplyAsyncUnchecked(() -&gt; Files.readAllBytes(path),Executors.newVirtualThreadPerTaskExecutor())</code>
+	 * @param <T> supplier result
+	 * @param <E> checked exception
+	 * @param _supplier supplier to execute
+	 * @param _executor executor to run the supplier (any executor can be used, including virtual threads executors)
+	 * @return future of the supplier result
+	 * @since 1.10.0
+	 */
+	public static <T, E extends Exception> CompletableFuture<T> supplyAsyncUnchecked(final SupplierWithExceptions<T, E> _supplier,final Executor _executor) {
+		final CompletableFuture<T> reply = new CompletableFuture<>();
+		try {
+			_executor.execute(() -> complete(reply, _supplier));
+		} catch (RuntimeException e) {
+			reply.completeExceptionally(e);
+		}
+		return reply;
+	}
+	/**
+	 * Executes the runnable in the common fork join pool returning a future completed when finished or completed exceptionally with the original exception thrown.
+	 * Unlike CompletableFuture.runAsync() the exception is not wrapped into a CompletionException
+	 * @param _runnable runnable to execute
+	 * @return future completed when the runnable finishes
+	 * @since 1.10.0
+	 * @see ForkJoinPool#commonPool()
+	 */
+	public static CompletableFuture<Void> runAsyncUnchecked(final RunnableWithExceptions<?> _runnable) {
+		return runAsyncUnchecked(_runnable, ForkJoinPool.commonPool());
+	}
+	/**
+	 * Executes the runnable in the given executor returning a future completed when finished or completed exceptionally with the original exception thrown.
+	 * Unlike CompletableFuture.runAsync() the exception is not wrapped into a CompletionException
+	 * @param _runnable runnable to execute
+	 * @param _executor executor to run the runnable (any executor can be used, including virtual threads executors)
+	 * @return future completed when the runnable finishes
+	 * @since 1.10.0
+	 */
+	public static CompletableFuture<Void> runAsyncUnchecked(final RunnableWithExceptions<?> _runnable,final Executor _executor) {
+		return supplyAsyncUnchecked(() -> {
+			_runnable.run();
+			return null;
+		}, _executor);
+	}
+
+	/**
+	 * Completes the future with the supplier result or exceptionally with the original exception
+	 * @param <T> supplier result
+	 * @param _future future to complete
+	 * @param _supplier supplier to execute
+	 */
+	private static <T> void complete(final CompletableFuture<T> _future,final SupplierWithExceptions<T, ?> _supplier) {
+		try {
+			_future.complete(_supplier.get());
+		} catch (Throwable e) {
+			_future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Wraps supplier lambda returning a thread safe supplier that executes the given one only once (lazily at the first get) and returns always the same result.
+	 * If the supplier fails, the exception is thrown without compilation check and the result is not cached, therefore the next get will try again.
+	 * Example:
+	 * <code>Supplier&lt;InetAddress&gt; address=memoizedSupplier(() -&gt; InetAddress.getByName("myhost"));</code>
+	 * @param <T> supplier result
+	 * @param <E> checked exception
+	 * @param _supplier supplier to wrap
+	 * @return wrapped supplier that computes the value only once
+	 * @since 1.10.0
+	 * @see Supplier
+	 * @see SupplierWithExceptions
+	 */
+	public static <T, E extends Exception> Supplier<T> memoizedSupplier(final SupplierWithExceptions<T, E> _supplier) {
+		return new Supplier<T>() {
+			
+			private volatile boolean computed = false;
+			private T value = null;
+			
+			@Override
+			public T get() {
+				if (!this.computed) {
+					synchronized (this) {
+						if (!this.computed) {
+							this.value = uncheckedGet(_supplier);
+							this.computed = true;
+						}
+					}
+				}
+				return this.value;
+			}
+		};
+	}
+	/**
+	 * Wraps function lambda returning a thread safe function that caches up to _maxSize results by input, evicting the oldest cached inputs first.
+	 * If the function fails, the exception is thrown without compilation check and nothing is cached. Null inputs are never cached.
+	 * Important: concurrent calls with the same non cached input can execute the function more than once, but only one result is kept
+	 * Example:
+	 * <code>.map(memoizedFunction(InetAddress::getByName,1000))</code>
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to wrap
+	 * @param _maxSize maximum number of results to keep
+	 * @return wrapped function that caches the results
+	 * @throws IllegalArgumentException if _maxSize is lower than 1
+	 * @since 1.10.0
+	 * @see Function
+	 * @see FunctionWithExceptions
+	 */
+	public static <T, R, E extends Exception> Function<T, R> memoizedFunction(final FunctionWithExceptions<T, R, E> _function,final int _maxSize) {
+		
+		if (_maxSize < 1) {
+			throw new IllegalArgumentException("Max size must be greater than 0 [" + _maxSize + "]");
+		}
+		final Object nullValue = new Object();
+		final Map<T, Object> cache = new ConcurrentHashMap<>();
+		final Queue<T> insertionOrder = new ConcurrentLinkedQueue<>();
+		
+		return t -> {
+			if (t == null) {
+				return uncheckedApply(_function, t);
+			}
+			Object reply = cache.get(t);
+			if (reply == null) {
+				final R result = uncheckedApply(_function, t);
+				reply = cache.putIfAbsent(t, (result != null)? result : nullValue);
+				if (reply == null) {
+					reply = (result != null)? result : nullValue;
+					insertionOrder.offer(t);
+					while (cache.size() > _maxSize) {
+						final T eldest = insertionOrder.poll();
+						if (eldest == null) {
+							break;
+						}
+						cache.remove(eldest);
+					}
+				}
+			}
+			@SuppressWarnings("unchecked")
+			final R value = (reply != nullValue)? (R) reply : null;
+			return value;
+		};
+	}
+	/**
+	 * Wraps function lambda returning a function that retries the execution up to _maxRetries times when fails with any of the given exception types,
+	 * waiting _backoff milliseconds before the first retry and doubling the wait before each subsequent retry.
+	 * Any other exception, or the last one when all retries are exhausted, is thrown without compilation check.
+	 * If the thread is interrupted while waiting, the interruption flag is restored and the last exception is thrown.
+	 * InterruptedException is never retried (even if included in _retryOn), the interruption flag is restored and the exception is thrown
+	 * Example:
+	 * <code>.map(retryingFunction(InetAddress::getByName,3,100l,UnknownHostException.class))</code>
+	 * @param <T> function input type
+	 * @param <R> function result type
+	 * @param <E> checked exception
+	 * @param _function function to wrap
+	 * @param _maxRetries maximum number of retries (0 means no retries)
+	 * @param _backoff milliseconds to wait before the first retry
+	 * @param _retryOn exception types to retry (subtypes included), if none all exceptions are retried
+	 * @return wrapped function that retries on failure
+	 * @throws IllegalArgumentException if _maxRetries or _backoff are negative
+	 * @since 1.10.0
+	 * @see Function
+	 * @see FunctionWithExceptions
+	 */
+	@SafeVarargs
+	public static <T, R, E extends Exception> Function<T, R> retryingFunction(final FunctionWithExceptions<T, R, E> _function,final int _maxRetries,final long _backoff,final Class<? extends Exception>... _retryOn) {
+		
+		if (_maxRetries < 0) {
+			throw new IllegalArgumentException("Max retries can not be negative [" + _maxRetries + "]");
+		}
+		if (_backoff < 0l) {
+			throw new IllegalArgumentException("Backoff can not be negative [" + _backoff + "]");
+		}
+		final List<Class<? extends Exception>> retryOn = new ArrayList<>();
+		if (_retryOn != null) {
+			for (Class<? extends Exception> type : _retryOn) {
+				retryOn.add(type);
+			}
+		}
+		
+		return t -> {
+			int retry = 0;
+			long wait = _backoff;
+			while (true) {
+				try {
+					return _function.apply(t);
+				} catch (Exception e) {
+					if (e instanceof InterruptedException) {
+						Thread.currentThread().interrupt();
+						throwAsUnchecked(e);
+					}
+					if ((retry >= _maxRetries) || (!isRetryable(e, retryOn))) {
+						throwAsUnchecked(e);
+					}
+					try {
+						TimeUnit.MILLISECONDS.sleep(wait);
+					} catch (InterruptedException ie) {
+						Thread.currentThread().interrupt();
+						throwAsUnchecked(e);
+					}
+					retry++;
+					wait = (wait > Long.MAX_VALUE / 2)? Long.MAX_VALUE : wait * 2;
+				}
+			}
+		};
+	}
+	
+	/**
+	 * Check if the exception is instance of any of the given types
+	 * @param _exception exception to check
+	 * @param _retryOn exception types to retry, if none all exceptions are retryable
+	 * @return true if the exception must be retried
+	 */
+	private static boolean isRetryable(final Exception _exception, final List<Class<? extends Exception>> _retryOn) {
+		
+		boolean reply = _retryOn.isEmpty();
+		
+		if (!reply) {
+			for (Class<? extends Exception> type : _retryOn) {
+				if (type.isInstance(_exception)) {
+					reply = true;
+					break;
+				}
+			}
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Replace the sink that receives all the exceptions swallowed by the silenced wrappers.
+	 * Example:
+	 * <code>LambdaUnchecker.setSilencedExceptionSink(new SilencedExceptionCounter(LambdaUnchecker.LOGGER_SINK));</code>
+	 * Important: the sink is called from the thread where the exception happened, therefore must be thread safe and must not throw any exception
+	 * @param _sink new sink for silenced exceptions (null restores the default LOGGER_SINK)
+	 * @since 1.10.0
+	 * @see #LOGGER_SINK
+	 * @see SilencedExceptionCounter
+	 */
+	public static void setSilencedExceptionSink(final Consumer<? super Exception> _sink) {
+		silencedSink = (_sink != null)? _sink : LOGGER_SINK;
+	}
+	/**
+	 * Return the current silenced exceptions sink
+	 * @return current silenced exceptions sink
+	 * @since 1.10.0
+	 */
+	public static Consumer<? super Exception> getSilencedExceptionSink() {
+		return silencedSink;
+	}
+
+	/**
+	 * Silenced exceptions sink that counts the silenced exceptions by exception type and optionally forwards them to another sink
+	 * @since 1.10.0
+	 */
+	public static class SilencedExceptionCounter implements Consumer<Exception> {
+
+		private final Map<Class<? extends Exception>, LongAdder> counters;
+		private final Consumer<? super Exception> next;
+
+		/**
+		 * Builds a counter that does not forward the silenced exceptions
+		 */
+		public SilencedExceptionCounter() {
+			this(null);
+		}
+		/**
+		 * Builds a counter that forwards the silenced exceptions to the given sink
+		 * @param _next sink to forward the exceptions after count them (can be null)
+		 */
+		public SilencedExceptionCounter(final Consumer<? super Exception> _next) {
+			this.counters = new ConcurrentHashMap<>();
+			this.next = _next;
+		}
+
+		/**
+		 * Count the exception and forward to the next sink if exist
+		 * @param _exception silenced exception
+		 * @see Consumer#accept(java.lang.Object)
+		 */
+		@Override
+		public void accept(final Exception _exception) {
+			this.counters.computeIfAbsent(_exception.getClass(), type -> new LongAdder())
+							.increment();
+			if (this.next != null) {
+				this.next.accept(_exception);
+			}
+		}
+
+		/**
+		 * Return the number of silenced exceptions of exactly the given type
+		 * @param _type exception type
+		 * @return number of silenced exceptions of exactly the given type
+		 */
+		public long count(final Class<? extends Exception> _type) {
+			final LongAdder counter = this.counters.get(_type);
+			return (counter != null)? counter.sum() : 0l;
+		}
+		/**
+		 * Return the total number of silenced exceptions
+		 * @return total number of silenced exceptions
+		 */
+		public long total() {
+			return this.counters.values()
+								.stream()
+									.mapToLong(LongAdder::sum)
+									.sum();
+		}
+		/**
+		 * Return an snapshot of the current counters by exception type
+		 * @return unmodifiable map with the number of silenced exceptions by exception type
+		 */
+		public Map<Class<? extends Exception>, Long> snapshot() {
+			final Map<Class<? extends Exception>, Long> reply = new HashMap<>();
+			this.counters.forEach((type, counter) -> reply.put(type, counter.sum()));
+			return Collections.unmodifiableMap(reply);
+		}
+		/**
+		 * Reset all counters
+		 */
+		public void reset() {
+			this.counters.clear();
+		}
+	}
+
+	/**
+	 * Sends the silenced exception to the current sink
+	 * @param _exception silenced exception
+	 */
+	private static void silence(final Exception _exception) {
+		silencedSink.accept(_exception);
+	}
+	/**
+	 * Log the silenced exception at FINEST level avoiding any cost if the level is not loggable
+	 * @param _exception silenced exception
+	 */
+	private static void logSilenced(final Exception _exception) {
+		if (logger.isLoggable(Level.FINEST)) {
+			logger.log(Level.FINEST, null, _exception);
+		}
+	}
+	
+	/**
+	 * Removes the stack trace of the given exception in order to keep it as a preallocated instance to throw repeatedly for expected failures of types that can not extend StacklessException.
+	 * The stack trace is filled only once when the instance is created, throwing it afterwards has no stack trace cost.
+	 * Example:
+	 * <code>private static final ParseException NOT_A_NUMBER=LambdaUnchecker.preallocated(new ParseException("Not a number",0));</code>
+	 * Important: the returned instance is shared, therefore it must never be modified (initCause, addSuppressed...) and must not be thrown from try-with-resources blocks that could add suppressed exceptions to it
+	 * @param <E> exception type
+	 * @param _exception exception to preallocate
+	 * @return the same exception without stack trace
+	 * @since 1.10.0
+	 * @see StacklessException
+	 */
+	public static <E extends Exception> E preallocated(final E _exception) {
+		_exception.setStackTrace(new StackTraceElement[0]);
+		return _exception;
+	}
+
 	/**
 	 * Converts checked exception to throwable in order to hack compiler to avoid compilation time exceptions check
 	 * @param <E> checked exception
 	 * @param _exception exception to silencedSupplier
 	 */
 	@SuppressWarnings("unchecked")
-	private static <E extends Throwable> void throwAsUnchecked(Exception _exception) throws E {
+	static <E extends Throwable> void throwAsUnchecked(Exception _exception) throws E {
 		throw (E) _exception;
 	}
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * Mutable and resettable object to keep context of two values.
+ * Intended to be reused inside tight loops where the pair never escapes the loop body, avoiding the allocation of a new {@link Tuple} per element.
+ * Important: this object is not thread safe and must not be used as key of any map or set
+ * @author afarre
+ * @since 1.10.0
+ * @param <A> first value
+ * @param <B> second value
+ * @see Tuple
+ * @see MutableTuplePool
+ */
+public class MutableTuple<A,B> {
+
+	private A firstValue;
+	private B secondValue;
+
+	/**
+	 * Empty mutable tuple constructor
+	 */
+	public MutableTuple() {
+		this(null,null);
+	}
+	/**
+	 * Mutable tuple constructor
+	 * @param _first first param
+	 * @param _second second param
+	 */
+	public MutableTuple(final A _first,final B _second) {
+		this.firstValue = _first;
+		this.secondValue = _second;
+	}
+
+	/**
+	 * Getter for left value
+	 * @return left value
+	 */
+	public A getLeft() {
+		return this.left();
+	}
+	/**
+	 * return left value
+	 * @return left value
+	 */
+	public A left() {
+		return this.firstValue;
+	}
+	/**
+	 * Getter for right value
+	 * @return right value
+	 */
+	public B getRight() {
+		return this.right();
+	}
+	/**
+	 * return right value
+	 * @return right value
+	 */
+	public B right() {
+		return this.secondValue;
+	}
+
+	/**
+	 * Replace the left value of this tuple
+	 * @param _newValue new left value
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> setLeft(final A _newValue){
+		this.firstValue=_newValue;
+		return this;
+	}
+	/**
+	 * Replace the left value of this tuple with the result of applying the given converter to the current left value
+	 * @param _converter function to convert the left value
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> updateLeft(final Function<A,A> _converter){
+		this.firstValue=_converter.apply(this.firstValue);
+		return this;
+	}
+	/**
+	 * Replace the right value of this tuple
+	 * @param _newValue new right value
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> setRight(final B _newValue){
+		this.secondValue=_newValue;
+		return this;
+	}
+	/**
+	 * Replace the right value of this tuple with the result of applying the given converter to the current right value
+	 * @param _converter function to convert the right value
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> updateRight(final Function<B,B> _converter){
+		this.secondValue=_converter.apply(this.secondValue);
+		return this;
+	}
+	/**
+	 * Replace both values of this tuple
+	 * @param _left new left value
+	 * @param _right new right value
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> set(final A _left,final B _right){
+		this.firstValue=_left;
+		this.secondValue=_right;
+		return this;
+	}
+	/**
+	 * Clear both values of this tuple in order to not retain any reference
+	 * @return this same tuple
+	 */
+	public MutableTuple<A,B> reset(){
+		return set(null, null);
+	}
+
+	/**
+	 * Create an immutable snapshot of the current values, use it when the pair must escape the loop
+	 * @return new immutable tuple with the current values
+	 */
+	public Tuple<A,B> toTuple(){
+		return Tuple.of(this.firstValue,this.secondValue);
+	}
+
+	/**
+	 * Create a new MutableTuple form scratch with the given values
+	 * @param _left left value
+	 * @param _right right value
+	 * @param <LEFT> type of the new left value
+	 * @param <RIGHT> type of the new right value
+	 * @return new MutableTuple form scratch with the given values
+	 */
+	public static final <LEFT,RIGHT> MutableTuple<LEFT,RIGHT> of(final LEFT _left,final RIGHT _right){
+		return new MutableTuple<>(_left,_right);
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 * @return int hashcode representing the current values of this tuple
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 3;
+		hash = 83 * hash + Objects.hashCode(this.firstValue);
+		hash = 83 * hash + Objects.hashCode(this.secondValue);
+		return hash;
+	}
+
+	/**
+	 * @see Object#equals(java.lang.Object)
+	 * @param _tuple tuple to compare with
+	 * @return true if this tuple current values are equals to the provided one
+	 */
+	@Override
+	public boolean equals(final Object _tuple) {
+		if (this == _tuple) {
+			return true;
+		}
+		if (_tuple == null) {
+			return false;
+		}
+		if (getClass() != _tuple.getClass()) {
+			return false;
+		}
+		final MutableTuple<?, ?> other = (MutableTuple<?, ?>) _tuple;
+		if (!Objects.equals(this.firstValue, other.firstValue)) {
+			return false;
+		}
+		return Objects.equals(this.secondValue, other.secondValue);
+	}
+
+
+	/**
+	 * @see Object#toString()
+	 * @return string representation of this tuple
+	 */
+	@Override
+	public String toString() {
+		return String.join("","MutableTuple[firstValue=",String.valueOf(this.firstValue),", secondValue=",String.valueOf(this.secondValue),"]");
+	}
+}
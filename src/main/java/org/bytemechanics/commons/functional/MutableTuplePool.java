@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+
+/**
+ * Thread local pool of {@link MutableTuple} instances to reuse loop-local pairs that never escape the current thread.
+ * Each thread keeps its own bounded stack of released tuples, so no synchronization is needed to acquire or release.
+ * Usage:
+ * <pre>
+ *	final MutableTuple&lt;String,Integer&gt; pair=MutableTuplePool.acquire("key",1);
+ *	try{
+ *		...
+ *	}finally{
+ *		MutableTuplePool.release(pair);
+ *	}
+ * </pre>
+ * or
+ * <pre>
+ *	final int length=MutableTuplePool.apply("key",1,pair -&gt; pair.left().length()+pair.right());
+ * </pre>
+ * Important: a released tuple must not be used anymore, and must never be released twice
+ * @author afarre
+ * @since 1.10.0
+ * @see MutableTuple
+ */
+public final class MutableTuplePool {
+
+	/** Default maximum of released tuples retained per thread */
+	public static final int DEFAULT_MAX_RETAINED=32;
+
+	/** Released tuples for each thread */
+	private static final ThreadLocal<Deque<MutableTuple<Object,Object>>> POOL=ThreadLocal.withInitial(() -> new ArrayDeque<>(DEFAULT_MAX_RETAINED));
+
+	private MutableTuplePool(){}
+
+	/**
+	 * Acquire an empty tuple from the current thread pool or create a new one if the pool is empty
+	 * @param <LEFT> type of the left value
+	 * @param <RIGHT> type of the right value
+	 * @return empty mutable tuple
+	 */
+	@SuppressWarnings("unchecked")
+	public static <LEFT,RIGHT> MutableTuple<LEFT,RIGHT> acquire(){
+		final MutableTuple<Object,Object> reply=POOL.get().pollFirst();
+		return (reply!=null)? (MutableTuple<LEFT,RIGHT>)reply : new MutableTuple<>();
+	}
+	/**
+	 * Acquire a tuple from the current thread pool (or create a new one if the pool is empty) with the given values
+	 * @param <LEFT> type of the left value
+	 * @param <RIGHT> type of the right value
+	 * @param _left left value
+	 * @param _right right value
+	 * @return mutable tuple with the given values
+	 */
+	public static <LEFT,RIGHT> MutableTuple<LEFT,RIGHT> acquire(final LEFT _left,final RIGHT _right){
+		return MutableTuplePool.<LEFT,RIGHT>acquire()
+								.set(_left, _right);
+	}
+	/**
+	 * Release the tuple resetting its values and returning it to the current thread pool if there are less than DEFAULT_MAX_RETAINED tuples retained
+	 * @param _tuple tuple to release
+	 */
+	@SuppressWarnings("unchecked")
+	public static void release(final MutableTuple<?,?> _tuple){
+		if(_tuple!=null){
+			final Deque<MutableTuple<Object,Object>> pool=POOL.get();
+			_tuple.reset();
+			if(pool.size()<DEFAULT_MAX_RETAINED){
+				pool.offerFirst((MutableTuple<Object,Object>)_tuple);
+			}
+		}
+	}
+
+	/**
+	 * Acquire a tuple with the given values, apply the given function and release it
+	 * @param <LEFT> type of the left value
+	 * @param <RIGHT> type of the right value
+	 * @param <R> function result type
+	 * @param _left left value
+	 * @param _right right value
+	 * @param _function function to apply (the tuple must not escape from this function)
+	 * @return function result
+	 */
+	public static <LEFT,RIGHT,R> R apply(final LEFT _left,final RIGHT _right,final Function<MutableTuple<LEFT,RIGHT>,R> _function){
+		final MutableTuple<LEFT,RIGHT> tuple=acquire(_left, _right);
+		try{
+			return _function.apply(tuple);
+		}finally{
+			release(tuple);
+		}
+	}
+	/**
+	 * Create a function that reuses a single thread local tuple for each call.
+	 * Example:
+	 * <code>.map(MutableTuplePool.reusing(name -&gt; name, String::length, pair -&gt; pair.left()+":"+pair.right()))</code>
+	 * @param <T> function input type
+	 * @param <LEFT> type of the left value
+	 * @param <RIGHT> type of the right value
+	 * @param <R> function result type
+	 * @param _left function to extract the left value from the input
+	 * @param _right function to extract the right value from the input
+	 * @param _function function to apply to the tuple (the tuple must not escape from this function)
+	 * @return function that applies _function to a pooled tuple built from the input
+	 */
+	public static <T,LEFT,RIGHT,R> Function<T,R> reusing(final Function<T,LEFT> _left,final Function<T,RIGHT> _right,final Function<MutableTuple<LEFT,RIGHT>,R> _function){
+		return input -> apply(_left.apply(input), _right.apply(input), _function);
+	}
+	/**
+	 * Create a bifunction that reuses a single thread local tuple for each call
+	 * @param <LEFT> type of the left value
+	 * @param <RIGHT> type of the right value
+	 * @param <R> function result type
+	 * @param _function function to apply to the tuple (the tuple must not escape from this function)
+	 * @return bifunction that applies _function to a pooled tuple built from its inputs
+	 */
+	public static <LEFT,RIGHT,R> BiFunction<LEFT,RIGHT,R> reusing(final Function<MutableTuple<LEFT,RIGHT>,R> _function){
+		return (left,right) -> apply(left, right, _function);
+	}
+
+	/**
+	 * Return the number of released tuples retained by the current thread pool
+	 * @return retained tuples for the current thread
+	 */
+	public static int retained(){
+		return POOL.get().size();
+	}
+	/**
+	 * Discard all the tuples retained by the current thread pool
+	 */
+	public static void clear(){
+		POOL.remove();
+	}
+}
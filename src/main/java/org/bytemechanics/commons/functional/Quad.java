@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * Immutable object to keep context of four values, flat alternative to Tuple&lt;Tuple&lt;A,B&gt;,Tuple&lt;C,D&gt;&gt;
+ * @author afarre
+ * @since 1.10.0
+ * @param <A> first value
+ * @param <B> second value
+ * @param <C> third value
+ * @param <D> fourth value
+ * @see Tuple
+ * @see Triple
+ */
+public class Quad<A,B,C,D> {
+
+	private final A firstValue;
+	private final B secondValue;
+	private final C thirdValue;
+	private final D fourthValue;
+
+	/**
+	 * Quad constructor
+	 * @param _first first param
+	 * @param _second second param
+	 * @param _third third param
+	 * @param _fourth fourth param
+	 */
+	public Quad(final A _first,final B _second,final C _third,final D _fourth) {
+		this.firstValue = _first;
+		this.secondValue = _second;
+		this.thirdValue = _third;
+		this.fourthValue = _fourth;
+	}
+
+	/**
+	 * Getter for first value
+	 * @return first value
+	 */
+	public A getFirst() {
+		return this.first();
+	}
+	/**
+	 * return first value
+	 * @return first value
+	 */
+	public A first() {
+		return this.firstValue;
+	}
+	/**
+	 * Getter for second value
+	 * @return second value
+	 */
+	public B getSecond() {
+		return this.second();
+	}
+	/**
+	 * return second value
+	 * @return second value
+	 */
+	public B second() {
+		return this.secondValue;
+	}
+	/**
+	 * Getter for third value
+	 * @return third value
+	 */
+	public C getThird() {
+		return this.third();
+	}
+	/**
+	 * return third value
+	 * @return third value
+	 */
+	public C third() {
+		return this.thirdValue;
+	}
+	/**
+	 * Getter for fourth value
+	 * @return fourth value
+	 */
+	public D getFourth() {
+		return this.fourth();
+	}
+	/**
+	 * return fourth value
+	 * @return fourth value
+	 */
+	public D fourth() {
+		return this.fourthValue;
+	}
+
+	/**
+	 * Create a clone quad with the first value replaced with the given one
+	 * @param _newValue new value to replace in the cloned quad
+	 * @param <E> type of the new first value
+	 * @return clone of this quad with the first value replaced by _newValue
+	 */
+	public <E> Quad<E,B,C,D> first(final E _newValue){
+		return Quad.of(_newValue,this.secondValue,this.thirdValue,this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the first value result of the current first value applying the given converter
+	 * @param _converter function to convert the first value
+	 * @param <E> type of the new first value
+	 * @return clone of this quad with the first value replaced with the result of apply _converter to the current first value
+	 */
+	public <E> Quad<E,B,C,D> first(final Function<A,E> _converter){
+		return Quad.of(_converter.apply(this.firstValue),this.secondValue,this.thirdValue,this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the second value replaced with the given one
+	 * @param _newValue new value to replace in the cloned quad
+	 * @param <E> type of the new second value
+	 * @return clone of this quad with the second value replaced by _newValue
+	 */
+	public <E> Quad<A,E,C,D> second(final E _newValue){
+		return Quad.of(this.firstValue,_newValue,this.thirdValue,this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the second value result of the current second value applying the given converter
+	 * @param _converter function to convert the second value
+	 * @param <E> type of the new second value
+	 * @return clone of this quad with the second value replaced with the result of apply _converter to the current second value
+	 */
+	public <E> Quad<A,E,C,D> second(final Function<B,E> _converter){
+		return Quad.of(this.firstValue,_converter.apply(this.secondValue),this.thirdValue,this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the third value replaced with the given one
+	 * @param _newValue new value to replace in the cloned quad
+	 * @param <E> type of the new third value
+	 * @return clone of this quad with the third value replaced by _newValue
+	 */
+	public <E> Quad<A,B,E,D> third(final E _newValue){
+		return Quad.of(this.firstValue,this.secondValue,_newValue,this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the third value result of the current third value applying the given converter
+	 * @param _converter function to convert the third value
+	 * @param <E> type of the new third value
+	 * @return clone of this quad with the third value replaced with the result of apply _converter to the current third value
+	 */
+	public <E> Quad<A,B,E,D> third(final Function<C,E> _converter){
+		return Quad.of(this.firstValue,this.secondValue,_converter.apply(this.thirdValue),this.fourthValue);
+	}
+	/**
+	 * Create a clone quad with the fourth value replaced with the given one
+	 * @param _newValue new value to replace in the cloned quad
+	 * @param <E> type of the new fourth value
+	 * @return clone of this quad with the fourth value replaced by _newValue
+	 */
+	public <E> Quad<A,B,C,E> fourth(final E _newValue){
+		return Quad.of(this.firstValue,this.secondValue,this.thirdValue,_newValue);
+	}
+	/**
+	 * Create a clone quad with the fourth value result of the current fourth value applying the given converter
+	 * @param _converter function to convert the fourth value
+	 * @param <E> type of the new fourth value
+	 * @return clone of this quad with the fourth value replaced with the result of apply _converter to the current fourth value
+	 */
+	public <E> Quad<A,B,C,E> fourth(final Function<D,E> _converter){
+		return Quad.of(this.firstValue,this.secondValue,this.thirdValue,_converter.apply(this.fourthValue));
+	}
+
+	/**
+	 * Create a clone quad with the hashcode computed once and cached.
+	 * HashMap and HashSet already keep the hash of the stored keys, so the cached hashcode only saves work for probe keys reused in many lookups, do not use it by default.
+	 * Important: only safe if the values are immutable (or at least its hashcode can not change)
+	 * @return clone of this quad with cached hashcode or this same quad if already has the hashcode cached
+	 */
+	public Quad<A,B,C,D> hashed(){
+		return new HashedQuad<>(this.firstValue,this.secondValue,this.thirdValue,this.fourthValue);
+	}
+
+	/**
+	 * Create a new Quad form scratch with the given values
+	 * @param _first first value
+	 * @param _second second value
+	 * @param _third third value
+	 * @param _fourth fourth value
+	 * @param <FIRST> type of the first value
+	 * @param <SECOND> type of the second value
+	 * @param <THIRD> type of the third value
+	 * @param <FOURTH> type of the fourth value
+	 * @return new Quad form scratch with the given values
+	 */
+	public static final <FIRST,SECOND,THIRD,FOURTH> Quad<FIRST,SECOND,THIRD,FOURTH> of(final FIRST _first,final SECOND _second,final THIRD _third,final FOURTH _fourth){
+		return new Quad<>(_first,_second,_third,_fourth);
+	}
+	/**
+	 * Create a new Quad form scratch with the given values and the hashcode computed once and cached, only worth for probe keys reused in many lookups (see {@link #hashed()}).
+	 * The returned quad is equals to any other quad with the same values.
+	 * Important: only safe if the values are immutable (or at least its hashcode can not change)
+	 * @param _first first value
+	 * @param _second second value
+	 * @param _third third value
+	 * @param _fourth fourth value
+	 * @param <FIRST> type of the first value
+	 * @param <SECOND> type of the second value
+	 * @param <THIRD> type of the third value
+	 * @param <FOURTH> type of the fourth value
+	 * @return new Quad form scratch with the given values and cached hashcode
+	 */
+	public static final <FIRST,SECOND,THIRD,FOURTH> Quad<FIRST,SECOND,THIRD,FOURTH> ofHashed(final FIRST _first,final SECOND _second,final THIRD _third,final FOURTH _fourth){
+		return new HashedQuad<>(_first,_second,_third,_fourth);
+	}
+
+	/**
+	 * Quad with the hashcode computed during construction
+	 * @param <A> first value
+	 * @param <B> second value
+	 * @param <C> third value
+	 * @param <D> fourth value
+	 */
+	private static final class HashedQuad<A,B,C,D> extends Quad<A,B,C,D>{
+
+		private final int hash;
+
+		HashedQuad(final A _first,final B _second,final C _third,final D _fourth) {
+			super(_first, _second, _third, _fourth);
+			this.hash=super.hashCode();
+		}
+
+		@Override
+		public Quad<A,B,C,D> hashed() {
+			return this;
+		}
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * Return the class to compare in equals, hashed quads are considered the same kind than the plain ones
+	 * @return class to use in equals comparison
+	 */
+	private Class<?> kind(){
+		return (this instanceof HashedQuad)? Quad.class : getClass();
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 * @return int hashcode representing this quad
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 3;
+		hash = 83 * hash + Objects.hashCode(this.firstValue);
+		hash = 83 * hash + Objects.hashCode(this.secondValue);
+		hash = 83 * hash + Objects.hashCode(this.thirdValue);
+		hash = 83 * hash + Objects.hashCode(this.fourthValue);
+		return hash;
+	}
+
+	/**
+	 * @see Object#equals(java.lang.Object)
+	 * @param _quad quad to compare with
+	 * @return true if this quad is equals to the provided one
+	 */
+	@Override
+	public boolean equals(final Object _quad) {
+		if (this == _quad) {
+			return true;
+		}
+		if (!(_quad instanceof Quad)) {
+			return false;
+		}
+		final Quad<?,?,?,?> other = (Quad<?,?,?,?>) _quad;
+		if (kind() != other.kind()) {
+			return false;
+		}
+		if (!Objects.equals(this.firstValue, other.firstValue)) {
+			return false;
+		}
+		if (!Objects.equals(this.secondValue, other.secondValue)) {
+			return false;
+		}
+		if (!Objects.equals(this.thirdValue, other.thirdValue)) {
+			return false;
+		}
+		return Objects.equals(this.fourthValue, other.fourthValue);
+	}
+
+
+	/**
+	 * @see Object#toString()
+	 * @return string representation of this quad
+	 */
+	@Override
+	public String toString() {
+		return String.join("","Quad[firstValue=",String.valueOf(this.firstValue),", secondValue=",String.valueOf(this.secondValue),", thirdValue=",String.valueOf(this.thirdValue),", fourthValue=",String.valueOf(this.fourthValue),"]");
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.bytemechanics.commons.functional.LambdaUnchecker.FunctionWithExceptions;
+import org.bytemechanics.commons.functional.LambdaUnchecker.SupplierWithExceptions;
+
+
+/**
+ * Immutable result of an operation that can be either a success with a value or a failure with the exception produced.
+ * Allows to capture exceptions as values inside stream pipelines, so a single failed element does not abort the whole (parallel) stream.
+ * Example:
+ * <code>Map&lt;Boolean,List&lt;Result&lt;Number&gt;&gt;&gt; results=values.parallelStream().map(LambdaUnchecker.tryFunction(format::parse)).collect(Collectors.partitioningBy(Result::isSuccess));</code>
+ * Tip: capturing {@link LambdaUnchecker.StacklessException} failures avoids the stack trace cost of each failure
+ * @author afarre
+ * @since 1.10.0
+ * @param <T> success value type
+ * @see LambdaUnchecker#tryFunction(LambdaUnchecker.FunctionWithExceptions)
+ * @see LambdaUnchecker#trySupplier(LambdaUnchecker.SupplierWithExceptions)
+ */
+public final class Result<T> {
+
+	private final T value;
+	private final Exception failure;
+
+	private Result(final T _value,final Exception _failure) {
+		this.value = _value;
+		this.failure = _failure;
+	}
+
+	/**
+	 * Return true if this result is a success
+	 * @return true if this result is a success
+	 */
+	public boolean isSuccess() {
+		return this.failure==null;
+	}
+	/**
+	 * Return true if this result is a failure
+	 * @return true if this result is a failure
+	 */
+	public boolean isFailure() {
+		return this.failure!=null;
+	}
+
+	/**
+	 * Return the success value or throws the failure exception without compilation check
+	 * @return success value
+	 */
+	public T get() {
+		if(this.failure!=null){
+			LambdaUnchecker.throwAsUnchecked(this.failure);
+		}
+		return this.value;
+	}
+	/**
+	 * Return the failure exception if this result is a failure
+	 * @return Optional with the failure exception or empty if this result is a success
+	 */
+	public Optional<Exception> getFailure() {
+		return Optional.ofNullable(this.failure);
+	}
+	/**
+	 * Return the success value if this result is a success
+	 * @return Optional with the success value or empty if this result is a failure or the value is null
+	 */
+	public Optional<T> toOptional() {
+		return (this.failure==null)? Optional.ofNullable(this.value) : Optional.empty();
+	}
+	/**
+	 * Return the success value or the given value if this result is a failure
+	 * @param _other value to return if failure
+	 * @return success value or _other
+	 */
+	public T orElse(final T _other) {
+		return (this.failure==null)? this.value : _other;
+	}
+	/**
+	 * Return the success value or the value computed from the failure exception
+	 * @param _other function to compute the value from the failure exception
+	 * @return success value or the result of applying _other to the failure exception
+	 */
+	public T orElseGet(final Function<? super Exception,? extends T> _other) {
+		return (this.failure==null)? this.value : _other.apply(this.failure);
+	}
+
+	/**
+	 * Convert the success value with the given function, capturing any exception produced as failure.
+	 * If this result is a failure the same failure is returned and the function is not called
+	 * @param <U> new success value type
+	 * @param <E> checked exception
+	 * @param _mapper function to convert the success value
+	 * @return new result with the converted value or the failure
+	 */
+	@SuppressWarnings("unchecked")
+	public <U,E extends Exception> Result<U> map(final FunctionWithExceptions<? super T,? extends U,E> _mapper) {
+		return (this.failure==null)? Result.of(() -> _mapper.apply(this.value)) : (Result<U>)this;
+	}
+	/**
+	 * Convert the success value with the given function returning another result.
+	 * If this result is a failure the same failure is returned and the function is not called
+	 * @param <U> new success value type
+	 * @param _mapper function to convert the success value
+	 * @return result returned by the function or the failure
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> Result<U> flatMap(final Function<? super T,Result<U>> _mapper) {
+		return (this.failure==null)? Objects.requireNonNull(_mapper.apply(this.value)) : (Result<U>)this;
+	}
+	/**
+	 * Recover from failure computing a success value from the failure exception, capturing any exception produced as new failure.
+	 * If this result is a success the same result is returned and the function is not called
+	 * @param <E> checked exception
+	 * @param _recover function to compute the value from the failure exception
+	 * @return this result if success or the recovered result
+	 */
+	public <E extends Exception> Result<T> recover(final FunctionWithExceptions<? super Exception,? extends T,E> _recover) {
+		return (this.failure==null)? this : Result.of(() -> _recover.apply(this.failure));
+	}
+	/**
+	 * Execute the given consumer with the success value if this result is a success
+	 * @param _consumer success value consumer
+	 * @return this same result
+	 */
+	public Result<T> ifSuccess(final Consumer<? super T> _consumer) {
+		if(this.failure==null){
+			_consumer.accept(this.value);
+		}
+		return this;
+	}
+	/**
+	 * Execute the given consumer with the failure exception if this result is a failure
+	 * @param _consumer failure exception consumer
+	 * @return this same result
+	 */
+	public Result<T> ifFailure(final Consumer<? super Exception> _consumer) {
+		if(this.failure!=null){
+			_consumer.accept(this.failure);
+		}
+		return this;
+	}
+
+	/**
+	 * Create a new success result with the given value
+	 * @param <T> success value type
+	 * @param _value success value (can be null)
+	 * @return new success result
+	 */
+	public static <T> Result<T> success(final T _value) {
+		return new Result<>(_value,null);
+	}
+	/**
+	 * Create a new failure result with the given exception
+	 * @param <T> success value type
+	 * @param _failure failure exception
+	 * @return new failure result
+	 * @throws NullPointerException if _failure is null
+	 */
+	public static <T> Result<T> failure(final Exception _failure) {
+		return new Result<>(null,Objects.requireNonNull(_failure,"Failure exception can not be null"));
+	}
+	/**
+	 * Execute the given supplier capturing the result as success or any exception thrown as failure
+	 * @param <T> success value type
+	 * @param <E> checked exception
+	 * @param _supplier supplier to execute
+	 * @return success result with the supplier value or failure result with the exception thrown
+	 */
+	public static <T,E extends Exception> Result<T> of(final SupplierWithExceptions<? extends T,E> _supplier) {
+		try{
+			return success(_supplier.get());
+		}catch(Exception e){
+			return failure(e);
+		}
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 * @return int hashcode representing this result
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 7;
+		hash = 59 * hash + Objects.hashCode(this.value);
+		hash = 59 * hash + Objects.hashCode(this.failure);
+		return hash;
+	}
+
+	/**
+	 * @see Object#equals(java.lang.Object)
+	 * @param _result result to compare with
+	 * @return true if this result is equals to the provided one
+	 */
+	@Override
+	public boolean equals(final Object _result) {
+		if (this == _result) {
+			return true;
+		}
+		if (_result == null) {
+			return false;
+		}
+		if (getClass() != _result.getClass()) {
+			return false;
+		}
+		final Result<?> other = (Result<?>) _result;
+		if (!Objects.equals(this.value, other.value)) {
+			return false;
+		}
+		return Objects.equals(this.failure, other.failure);
+	}
+
+	/**
+	 * @see Object#toString()
+	 * @return string representation of this result
+	 */
+	@Override
+	public String toString() {
+		return (this.failure==null)? String.join("","Result[success=",String.valueOf(this.value),"]") : String.join("","Result[failure=",String.valueOf(this.failure),"]");
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * Immutable object to keep context of three values, flat alternative to Tuple&lt;Tuple&lt;A,B&gt;,C&gt;
+ * @author afarre
+ * @since 1.10.0
+ * @param <A> first value
+ * @param <B> second value
+ * @param <C> third value
+ * @see Tuple
+ */
+public class Triple<A,B,C> {
+
+	private final A firstValue;
+	private final B secondValue;
+	private final C thirdValue;
+
+	/**
+	 * Triple constructor
+	 * @param _first first param
+	 * @param _second second param
+	 * @param _third third param
+	 */
+	public Triple(final A _first,final B _second,final C _third) {
+		this.firstValue = _first;
+		this.secondValue = _second;
+		this.thirdValue = _third;
+	}
+
+	/**
+	 * Getter for first value
+	 * @return first value
+	 */
+	public A getFirst() {
+		return this.first();
+	}
+	/**
+	 * return first value
+	 * @return first value
+	 */
+	public A first() {
+		return this.firstValue;
+	}
+	/**
+	 * Getter for second value
+	 * @return second value
+	 */
+	public B getSecond() {
+		return this.second();
+	}
+	/**
+	 * return second value
+	 * @return second value
+	 */
+	public B second() {
+		return this.secondValue;
+	}
+	/**
+	 * Getter for third value
+	 * @return third value
+	 */
+	public C getThird() {
+		return this.third();
+	}
+	/**
+	 * return third value
+	 * @return third value
+	 */
+	public C third() {
+		return this.thirdValue;
+	}
+
+	/**
+	 * Create a clone triple with the first value replaced with the given one
+	 * @param _newValue new value to replace in the cloned triple
+	 * @param <D> type of the new first value
+	 * @return clone of this triple with the first value replaced by _newValue
+	 */
+	public <D> Triple<D,B,C> first(final D _newValue){
+		return Triple.of(_newValue,this.secondValue,this.thirdValue);
+	}
+	/**
+	 * Create a clone triple with the first value result of the current first value applying the given converter
+	 * @param _converter function to convert the first value
+	 * @param <D> type of the new first value
+	 * @return clone of this triple with the first value replaced with the result of apply _converter to the current first value
+	 */
+	public <D> Triple<D,B,C> first(final Function<A,D> _converter){
+		return Triple.of(_converter.apply(this.firstValue),this.secondValue,this.thirdValue);
+	}
+	/**
+	 * Create a clone triple with the second value replaced with the given one
+	 * @param _newValue new value to replace in the cloned triple
+	 * @param <D> type of the new second value
+	 * @return clone of this triple with the second value replaced by _newValue
+	 */
+	public <D> Triple<A,D,C> second(final D _newValue){
+		return Triple.of(this.firstValue,_newValue,this.thirdValue);
+	}
+	/**
+	 * Create a clone triple with the second value result of the current second value applying the given converter
+	 * @param _converter function to convert the second value
+	 * @param <D> type of the new second value
+	 * @return clone of this triple with the second value replaced with the result of apply _converter to the current second value
+	 */
+	public <D> Triple<A,D,C> second(final Function<B,D> _converter){
+		return Triple.of(this.firstValue,_converter.apply(this.secondValue),this.thirdValue);
+	}
+	/**
+	 * Create a clone triple with the third value replaced with the given one
+	 * @param _newValue new value to replace in the cloned triple
+	 * @param <D> type of the new third value
+	 * @return clone of this triple with the third value replaced by _newValue
+	 */
+	public <D> Triple<A,B,D> third(final D _newValue){
+		return Triple.of(this.firstValue,this.secondValue,_newValue);
+	}
+	/**
+	 * Create a clone triple with the third value result of the current third value applying the given converter
+	 * @param _converter function to convert the third value
+	 * @param <D> type of the new third value
+	 * @return clone of this triple with the third value replaced with the result of apply _converter to the current third value
+	 */
+	public <D> Triple<A,B,D> third(final Function<C,D> _converter){
+		return Triple.of(this.firstValue,this.secondValue,_converter.apply(this.thirdValue));
+	}
+
+	/**
+	 * Create a clone triple with the hashcode computed once and cached.
+	 * HashMap and HashSet already keep the hash of the stored keys, so the cached hashcode only saves work for probe keys reused in many lookups, do not use it by default.
+	 * Important: only safe if the values are immutable (or at least its hashcode can not change)
+	 * @return clone of this triple with cached hashcode or this same triple if already has the hashcode cached
+	 */
+	public Triple<A,B,C> hashed(){
+		return new HashedTriple<>(this.firstValue,this.secondValue,this.thirdValue);
+	}
+
+	/**
+	 * Create a new Triple form scratch with the given values
+	 * @param _first first value
+	 * @param _second second value
+	 * @param _third third value
+	 * @param <FIRST> type of the first value
+	 * @param <SECOND> type of the second value
+	 * @param <THIRD> type of the third value
+	 * @return new Triple form scratch with the given values
+	 */
+	public static final <FIRST,SECOND,THIRD> Triple<FIRST,SECOND,THIRD> of(final FIRST _first,final SECOND _second,final THIRD _third){
+		return new Triple<>(_first,_second,_third);
+	}
+	/**
+	 * Create a new Triple form scratch with the given values and the hashcode computed once and cached, only worth for probe keys reused in many lookups (see {@link #hashed()}).
+	 * The returned triple is equals to any other triple with the same values.
+	 * Important: only safe if the values are immutable (or at least its hashcode can not change)
+	 * @param _first first value
+	 * @param _second second value
+	 * @param _third third value
+	 * @param <FIRST> type of the first value
+	 * @param <SECOND> type of the second value
+	 * @param <THIRD> type of the third value
+	 * @return new Triple form scratch with the given values and cached hashcode
+	 */
+	public static final <FIRST,SECOND,THIRD> Triple<FIRST,SECOND,THIRD> ofHashed(final FIRST _first,final SECOND _second,final THIRD _third){
+		return new HashedTriple<>(_first,_second,_third);
+	}
+
+	/**
+	 * Triple with the hashcode computed during construction
+	 * @param <A> first value
+	 * @param <B> second value
+	 * @param <C> third value
+	 */
+	private static final class HashedTriple<A,B,C> extends Triple<A,B,C>{
+
+		private final int hash;
+
+		HashedTriple(final A _first,final B _second,final C _third) {
+			super(_first, _second, _third);
+			this.hash=super.hashCode();
+		}
+
+		@Override
+		public Triple<A,B,C> hashed() {
+			return this;
+		}
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * Return the class to compare in equals, hashed triples are considered the same kind than the plain ones
+	 * @return class to use in equals comparison
+	 */
+	private Class<?> kind(){
+		return (this instanceof HashedTriple)? Triple.class : getClass();
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 * @return int hashcode representing this triple
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 3;
+		hash = 83 * hash + Objects.hashCode(this.firstValue);
+		hash = 83 * hash + Objects.hashCode(this.secondValue);
+		hash = 83 * hash + Objects.hashCode(this.thirdValue);
+		return hash;
+	}
+
+	/**
+	 * @see Object#equals(java.lang.Object)
+	 * @param _triple triple to compare with
+	 * @return true if this triple is equals to the provided one
+	 */
+	@Override
+	public boolean equals(final Object _triple) {
+		if (this == _triple) {
+			return true;
+		}
+		if (!(_triple instanceof Triple)) {
+			return false;
+		}
+		final Triple<?,?,?> other = (Triple<?,?,?>) _triple;
+		if (kind() != other.kind()) {
+			return false;
+		}
+		if (!Objects.equals(this.firstValue, other.firstValue)) {
+			return false;
+		}
+		if (!Objects.equals(this.secondValue, other.secondValue)) {
+			return false;
+		}
+		return Objects.equals(this.thirdValue, other.thirdValue);
+	}
+
+
+	/**
+	 * @see Object#toString()
+	 * @return string representation of this triple
+	 */
+	@Override
+	public String toString() {
+		return String.join("","Triple[firstValue=",String.valueOf(this.firstValue),", secondValue=",String.valueOf(this.secondValue),", thirdValue=",String.valueOf(this.thirdValue),"]");
+	}
+}
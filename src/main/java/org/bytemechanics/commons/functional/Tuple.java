@@ -132,6 +132,17 @@ public class Tuple<A,B> {
 		return Tuple.of(_leftConverter.apply(this.firstValue),_rightConverter.apply(this.secondValue));
 	}
 	
+	/**
+	 * Create a clone tuple with the hashcode computed once and cached.
+	 * HashMap and HashSet already keep the hash of the stored keys, so the cached hashcode only saves work for probe keys reused in many lookups, do not use it by default.
+	 * Important: only safe if the left and right values are immutable (or at least its hashcode can not change)
+	 * @return clone of this tuple with cached hashcode or this same tuple if already has the hashcode cached
+	 * @since 1.10.0
+	 */
+	public Tuple<A,B> hashed(){
+		return new HashedTuple<>(this.firstValue,this.secondValue);
+	}
+	
 	/**
 	 * Create a new Tuple form scratch with the given values
 	 * @param _left left value
@@ -143,6 +154,52 @@ public class Tuple<A,B> {
 	public static final <LEFT,RIGHT> Tuple<LEFT,RIGHT> of(final LEFT _left,final RIGHT _right){
 		return new Tuple<>(_left,_right);
 	}
+	/**
+	 * Create a new Tuple form scratch with the given values and the hashcode computed once and cached, only worth for probe keys reused in many lookups (see {@link #hashed()}).
+	 * The returned tuple is equals to any other tuple with the same values.
+	 * Important: only safe if the left and right values are immutable (or at least its hashcode can not change)
+	 * @param _left left value
+	 * @param _right right value
+	 * @param <LEFT> type of the new left value
+	 * @param <RIGHT> type of the new right value
+	 * @return new Tuple form scratch with the given values and cached hashcode
+	 * @since 1.10.0
+	 */
+	public static final <LEFT,RIGHT> Tuple<LEFT,RIGHT> ofHashed(final LEFT _left,final RIGHT _right){
+		return new HashedTuple<>(_left,_right);
+	}
+
+	/**
+	 * Tuple with the hashcode computed during construction
+	 * @param <A> first value
+	 * @param <B> second value
+	 */
+	private static final class HashedTuple<A,B> extends Tuple<A,B>{
+		
+		private final int hash;
+
+		HashedTuple(final A _first,final B _second) {
+			super(_first, _second);
+			this.hash=super.hashCode();
+		}
+
+		@Override
+		public Tuple<A, B> hashed() {
+			return this;
+		}
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+	
+	/**
+	 * Return the class to compare in equals, hashed tuples are considered the same kind than the plain ones
+	 * @return class to use in equals comparison
+	 */
+	private Class<?> kind(){
+		return (this instanceof HashedTuple)? Tuple.class : getClass();
+	}
 
 	/**
 	 * @see Object#hashCode() 
@@ -166,13 +223,13 @@ public class Tuple<A,B> {
 		if (this == _tuple) {
 			return true;
 		}
-		if (_tuple == null) {
+		if (!(_tuple instanceof Tuple)) {
 			return false;
 		}
-		if (getClass() != _tuple.getClass()) {
+		final Tuple<?, ?> other = (Tuple<?, ?>) _tuple;
+		if (kind() != other.kind()) {
 			return false;
 		}
-		final Tuple<?, ?> other = (Tuple<?, ?>) _tuple;
 		if (!Objects.equals(this.firstValue, other.firstValue)) {
 			return false;
 		}
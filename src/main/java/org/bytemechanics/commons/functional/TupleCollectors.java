@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+
+/**
+ * Collectors to aggregate streams of {@link Tuple} using the left value as key and the right value as value.
+ * The concurrent variants are CONCURRENT and UNORDERED therefore parallel streams accumulate directly into a single shared map without merging partial maps.
+ * Example:
+ * <code>Map&lt;String,Long&gt; counters=tuples.parallelStream().collect(TupleCollectors.toConcurrentMap(Long::sum));</code>
+ * @author afarre
+ * @since 1.10.0
+ * @see Tuple
+ */
+public final class TupleCollectors {
+
+	private TupleCollectors(){}
+
+	/**
+	 * Collect tuples into a map with the left value as key and the right value as value.
+	 * Unlike Collectors.toMap(), null right values are accepted
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @return Collector to map
+	 * @throws IllegalStateException when collecting if duplicated left values are found
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,Map<K,V>> toMap(){
+		return Collector.of(HashMap::new
+							, (Map<K,V> map,Tuple<K,V> tuple) -> putUnique(map, tuple.left(), tuple.right())
+							, (map1,map2) -> {
+								map2.forEach((key,value) -> putUnique(map1, key, value));
+								return map1;
+							}
+							, Collector.Characteristics.IDENTITY_FINISH);
+	}
+	/**
+	 * Collect tuples into a map with the left value as key and the right value as value merging the right values of duplicated left values.
+	 * Unlike Collectors.toMap(), null right values are accepted (and passed to the merger when duplicated)
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @param _merger function to merge right values with the same left value
+	 * @return Collector to map
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,Map<K,V>> toMap(final BinaryOperator<V> _merger){
+		return Collector.of(HashMap::new
+							, (Map<K,V> map,Tuple<K,V> tuple) -> putMerged(map, tuple.left(), tuple.right(), _merger)
+							, (map1,map2) -> {
+								map2.forEach((key,value) -> putMerged(map1, key, value, _merger));
+								return map1;
+							}
+							, Collector.Characteristics.IDENTITY_FINISH);
+	}
+	/**
+	 * Collect tuples into a concurrent map with the left value as key and the right value as value merging the right values of duplicated left values.
+	 * This collector is CONCURRENT and UNORDERED
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @param _merger function to merge right values with the same left value
+	 * @return Collector to concurrent map
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,ConcurrentMap<K,V>> toConcurrentMap(final BinaryOperator<V> _merger){
+		return Collectors.toConcurrentMap(Tuple::left, Tuple::right, _merger);
+	}
+
+	/**
+	 * Group tuples by left value collecting the right values into lists
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @return Collector to multimap
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,Map<K,List<V>>> groupingByLeft(){
+		return groupingByLeft(Collectors.toList());
+	}
+	/**
+	 * Group tuples by left value reducing the right values with the given downstream collector.
+	 * Right values are passed directly to the downstream collector without any intermediate collection
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @param <A> downstream accumulator type
+	 * @param <D> downstream result type
+	 * @param _downstream collector to reduce the right values of each left value
+	 * @return Collector to map of reduced right values
+	 */
+	public static <K,V,A,D> Collector<Tuple<K,V>,?,Map<K,D>> groupingByLeft(final Collector<? super V,A,D> _downstream){
+		return Collectors.groupingBy(Tuple::left, Collectors.mapping(Tuple::right, _downstream));
+	}
+	/**
+	 * Group tuples by left value collecting the right values into lists into a concurrent map.
+	 * This collector is CONCURRENT and UNORDERED
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @return Collector to concurrent multimap
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,ConcurrentMap<K,List<V>>> groupingByLeftConcurrent(){
+		return groupingByLeftConcurrent(Collectors.toList());
+	}
+	/**
+	 * Group tuples by left value reducing the right values with the given downstream collector into a concurrent map.
+	 * This collector is CONCURRENT and UNORDERED
+	 * @param <K> left value type (key)
+	 * @param <V> right value type (value)
+	 * @param <A> downstream accumulator type
+	 * @param <D> downstream result type
+	 * @param _downstream collector to reduce the right values of each left value
+	 * @return Collector to concurrent map of reduced right values
+	 */
+	public static <K,V,A,D> Collector<Tuple<K,V>,?,ConcurrentMap<K,D>> groupingByLeftConcurrent(final Collector<? super V,A,D> _downstream){
+		return Collectors.groupingByConcurrent(Tuple::left, Collectors.mapping(Tuple::right, _downstream));
+	}
+
+	/**
+	 * Partition tuples with the given predicate reducing the right values of each partition with the given downstream collector
+	 * @param <K> left value type
+	 * @param <V> right value type
+	 * @param <A> downstream accumulator type
+	 * @param <D> downstream result type
+	 * @param _predicate predicate to classify each tuple
+	 * @param _downstream collector to reduce the right values of each partition
+	 * @return Collector to map with the true and false partitions
+	 */
+	public static <K,V,A,D> Collector<Tuple<K,V>,?,Map<Boolean,D>> partitioningBy(final Predicate<? super Tuple<K,V>> _predicate,final Collector<? super V,A,D> _downstream){
+		return Collectors.partitioningBy(_predicate, Collectors.mapping(Tuple::right, _downstream));
+	}
+
+	/**
+	 * Collect the _amount tuples with the greatest right values, sorted in descending order.
+	 * Each accumulator keeps only a bounded heap of _amount tuples, therefore memory does not grow with the stream size.
+	 * This collector is UNORDERED, ties between equal right values are resolved arbitrarily
+	 * @param <K> left value type
+	 * @param <V> right value type
+	 * @param _amount maximum number of tuples to return
+	 * @param _comparator comparator of right values
+	 * @return Collector to list of at most _amount tuples sorted by right value in descending order
+	 * @throws IllegalArgumentException if _amount is negative
+	 */
+	public static <K,V> Collector<Tuple<K,V>,?,List<Tuple<K,V>>> topByRight(final int _amount,final Comparator<? super V> _comparator){
+		if(_amount<0){
+			throw new IllegalArgumentException("Amount can not be negative ["+_amount+"]");
+		}
+		final Comparator<Tuple<K,V>> comparator=(tuple1,tuple2) -> _comparator.compare(tuple1.right(), tuple2.right());
+		return Collector.<Tuple<K,V>,PriorityQueue<Tuple<K,V>>,List<Tuple<K,V>>>of(
+							() -> new PriorityQueue<>(Math.max(1,_amount+1),comparator)
+							, (heap,tuple) -> offerBounded(heap, tuple, _amount)
+							, (heap1,heap2) -> {
+								final PriorityQueue<Tuple<K,V>> bigger=(heap1.size()>=heap2.size())? heap1 : heap2;
+								final PriorityQueue<Tuple<K,V>> smaller=(bigger==heap1)? heap2 : heap1;
+								smaller.forEach(tuple -> offerBounded(bigger, tuple, _amount));
+								return bigger;
+							}
+							, heap -> {
+								final List<Tuple<K,V>> reply=new ArrayList<>(heap);
+								reply.sort(Collections.reverseOrder(comparator));
+								return reply;
+							}
+							, Collector.Characteristics.UNORDERED);
+	}
+	/**
+	 * Collect the _amount tuples with the greatest right values, sorted in descending order
+	 * @param <K> left value type
+	 * @param <V> right value type
+	 * @param _amount maximum number of tuples to return
+	 * @return Collector to list of at most _amount tuples sorted by right value in descending order
+	 * @see #topByRight(int, java.util.Comparator)
+	 */
+	public static <K,V extends Comparable<? super V>> Collector<Tuple<K,V>,?,List<Tuple<K,V>>> topByRight(final int _amount){
+		return topByRight(_amount, Comparator.<V>naturalOrder());
+	}
+
+
+	private static <K,V> void putUnique(final Map<K,V> _map,final K _key,final V _value){
+		if(_map.containsKey(_key)){
+			throw new IllegalStateException("Duplicate key "+_key);
+		}
+		_map.put(_key, _value);
+	}
+	private static <K,V> void putMerged(final Map<K,V> _map,final K _key,final V _value,final BinaryOperator<V> _merger){
+		_map.put(_key, (_map.containsKey(_key))? _merger.apply(_map.get(_key), _value) : _value);
+	}
+	private static <T> void offerBounded(final PriorityQueue<T> _heap,final T _element,final int _amount){
+		if(_amount>0){
+			_heap.offer(_element);
+			if(_heap.size()>_amount){
+				_heap.poll();
+			}
+		}
+	}
+}
@@ -15,309 +15,1891 @@
  */
 package org.bytemechanics.commons.io;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Creates a seekable byte channel stored in memory
+ * Creates a seekable byte channel stored in memory.
+ * Data is stored in power of two chunks, therefore any position is translated to its chunk and offset with shift and mask arithmetic and seeks are constant time.
+ * Chunks start with the minimum chunk size and double its size with each new chunk until reach the maximum chunk size, so small channels remain compact and big channels use few big chunks.
+ * Fixed size chunks can be configured using the same minimum and maximum chunk size.
+ * Scattering reads and gathering writes are done in a single locked pass, and the content can be transferred from and to other channels directly from the chunks without intermediate buffers.
+ * Duplicates and read-only views (including slices) share the chunks with the original channel with its own position, shared chunks are copied only when written (copy-on-write), therefore fan out the same content to many consumers does not copy it.
+ * Unbuffered InputStream and OutputStream views can be created to interoperate with stream based libraries without the extra buffering of the java.nio.channels.Channels adapters.
+ * Besides the relative operations of SeekableByteChannel it provides the positional operations of FileChannel that do not modify the channel position, so many threads can read (or overwrite) disjoint regions in parallel.
+ * Chunks are obtained from a {@link ChunkAllocator}, using {@link ChunkAllocator#DIRECT} the data is stored off-heap (out of the garbage collector scope) and released deterministically on truncate and close.
+ * Using a {@link PooledChunkAllocator} shared between channels the released chunks are reused by the next channels, removing the allocation churn when many short lived channels are created.
+ * Optionally a spill threshold can be configured, when the channel grows beyond it the content is moved to a memory mapped temporal file and the channel continues with mapped chunks, the file is unmapped and deleted on close (or once the views sharing its mapped chunks are closed).
+ * A spilled channel never modifies a file region mapped by its views, before writing a shared chunk or truncating a shared region the content is moved to a new file
  * @author afarre
  * @since 1.8.0
  */
-public class MemorySeekableByteChannel implements SeekableByteChannel {
+public class MemorySeekableByteChannel implements SeekableByteChannel, GatheringByteChannel, ScatteringByteChannel {
+
+    /**
+     * Chunk provider for MemorySeekableByteChannel
+     * @since 1.10.0
+     */
+    public static interface ChunkAllocator {
+
+        /**
+         * Heap chunks allocator, chunks are released by the garbage collector
+         */
+        public static final ChunkAllocator HEAP = ByteBuffer::allocate;
+        /**
+         * Direct (off-heap) chunks allocator, chunks are freed as soon as are released (when the running jvm allows it)
+         */
+        public static final ChunkAllocator DIRECT = new ChunkAllocator() {
+            @Override
+            public ByteBuffer allocate(final int _size) {
+                return ByteBuffer.allocateDirect(_size);
+            }
+            @Override
+            public void release(final ByteBuffer _chunk) {
+                DIRECT_CLEANER.accept(_chunk);
+            }
+        };
+
+        /**
+         * Provide a new chunk
+         * @param _size chunk capacity
+         * @return zero filled buffer with exactly _size capacity, position 0 and limit _size
+         */
+        public ByteBuffer allocate(int _size);
+
+        /**
+         * Release a chunk previously provided by this allocator, the chunk is not used anymore by the channel
+         * @param _chunk chunk to release
+         */
+        public default void release(final ByteBuffer _chunk) {
+        }
+    }
+
+    /**
+     * Chunk allocator that keeps the released chunks to reuse them in the next allocations.
+     * Each thread keeps its own small cache of released chunks bounded by the maximum thread cached bytes (no synchronization needed), when full the chunks are returned to a pool shared between threads bounded by the maximum pooled bytes, beyond it the chunks are released to the delegated allocator.
+     * Therefore the allocator retains at most the maximum pooled bytes plus the maximum thread cached bytes for each thread that releases chunks.
+     * Reused chunks are zero filled before provided. Usage:
+     * <pre>
+     *     private static final ChunkAllocator POOL = new PooledChunkAllocator(ChunkAllocator.DIRECT);
+     *     ...
+     *     try (MemorySeekableByteChannel channel = new MemorySeekableByteChannel(POOL)) {
+     *         ...
+     *     }
+     * </pre>
+     * @since 1.10.0
+     */
+    public static final class PooledChunkAllocator implements ChunkAllocator {
+
+        /**
+         * Default maximum of bytes retained in the shared pool
+         */
+        public static final long DEFAULT_MAX_POOLED_BYTES = 64l << 20;
+        /**
+         * Default maximum of bytes retained in each thread cache
+         */
+        public static final long DEFAULT_MAX_THREAD_CACHED_BYTES = 4l << 20;
+
+        /**
+         * Released chunks retained by a thread
+         */
+        private static final class ThreadCache {
+            /** released chunks by chunk size */
+            private final Map<Integer, Deque<ByteBuffer>> chunks = new HashMap<>();
+            /** bytes retained */
+            private long bytes;
+        }
+
+        private final ChunkAllocator delegate;
+        private final long maxPooledBytes;
+        private final long maxThreadCachedBytes;
+        /**
+         * Shared pool of released chunks by chunk size
+         */
+        private final ConcurrentMap<Integer, Queue<ByteBuffer>> pool;
+        /**
+         * Bytes retained in the shared pool
+         */
+        private final AtomicLong pooledBytes;
+        /**
+         * Released chunks of each thread
+         */
+        private final ThreadLocal<ThreadCache> cache;
+
+        /**
+         * Creates a pool of heap chunks with the default limits
+         */
+        public PooledChunkAllocator() {
+            this(ChunkAllocator.HEAP);
+        }
+        /**
+         * Creates a pool of the chunks provided by the given allocator with the default limits
+         * @param _delegate allocator to provide and release the chunks when not available in the pool
+         */
+        public PooledChunkAllocator(final ChunkAllocator _delegate) {
+            this(_delegate, DEFAULT_MAX_POOLED_BYTES, DEFAULT_MAX_THREAD_CACHED_BYTES);
+        }
+        /**
+         * Creates a pool of the chunks provided by the given allocator with the given limits
+         * @param _delegate allocator to provide and release the chunks when not available in the pool
+         * @param _maxPooledBytes maximum of bytes retained in the shared pool
+         * @param _maxThreadCachedBytes maximum of bytes retained in each thread cache
+         * @throws IllegalArgumentException if _delegate is null or any limit is negative
+         */
+        public PooledChunkAllocator(final ChunkAllocator _delegate, final long _maxPooledBytes, final long _maxThreadCachedBytes) {
+            if (_delegate == null) {
+                throw new IllegalArgumentException("Chunk allocator can not be null");
+            }
+            if ((_maxPooledBytes < 0l) || (_maxThreadCachedBytes < 0l)) {
+                throw new IllegalArgumentException("Pool limits can not be negative [maxPooledBytes:" + _maxPooledBytes + ",maxThreadCachedBytes:" + _maxThreadCachedBytes + "]");
+            }
+            this.delegate = _delegate;
+            this.maxPooledBytes = _maxPooledBytes;
+            this.maxThreadCachedBytes = _maxThreadCachedBytes;
+            this.pool = new ConcurrentHashMap<>();
+            this.pooledBytes = new AtomicLong(0l);
+            this.cache = ThreadLocal.withInitial(ThreadCache::new);
+        }
+
+        @Override
+        public ByteBuffer allocate(final int _size) {
+
+            ByteBuffer reply = null;
+
+            final ThreadCache threadCache = this.cache.get();
+            final Deque<ByteBuffer> cached = threadCache.chunks.get(_size);
+            if (cached != null) {
+                reply = cached.pollFirst();
+                if (reply != null) {
+                    threadCache.bytes -= _size;
+                }
+            }
+            if (reply == null) {
+                final Queue<ByteBuffer> pooled = this.pool.get(_size);
+                if (pooled != null) {
+                    reply = pooled.poll();
+                    if (reply != null) {
+                        this.pooledBytes.addAndGet(-_size);
+                    }
+                }
+            }
+            if (reply == null) {
+                return this.delegate.allocate(_size);
+            }
+            reply.clear();
+            clean(reply, 0, _size);
+
+            return reply;
+        }
+
+        @Override
+        public void release(final ByteBuffer _chunk) {
+
+            final int size = _chunk.capacity();
+
+            final ThreadCache threadCache = this.cache.get();
+            if (threadCache.bytes + size <= this.maxThreadCachedBytes) {
+                threadCache.chunks.computeIfAbsent(size, key -> new ArrayDeque<>()).offerFirst(_chunk);
+                threadCache.bytes += size;
+            } else if (this.pooledBytes.addAndGet(size) <= this.maxPooledBytes) {
+                this.pool.computeIfAbsent(size, key -> new ConcurrentLinkedQueue<>()).offer(_chunk);
+            } else {
+                this.pooledBytes.addAndGet(-size);
+                this.delegate.release(_chunk);
+            }
+        }
+
+        /**
+         * Return the bytes retained in the shared pool
+         * @return bytes retained in the shared pool
+         */
+        public long pooledBytes() {
+            return this.pooledBytes.get();
+        }
+        /**
+         * Return the bytes retained in the current thread cache
+         * @return bytes retained in the current thread cache
+         */
+        public long cachedBytes() {
+            return this.cache.get().bytes;
+        }
+        /**
+         * Release to the delegated allocator all the chunks retained in the shared pool and in the cache of the calling thread.
+         * The caches of other threads are not accessible from the calling thread, their chunks are kept until reused by their thread and are garbage collected with it
+         */
+        public void clear() {
+            final ThreadCache threadCache = this.cache.get();
+            threadCache.chunks.values().forEach(cached -> {
+                ByteBuffer chunk;
+                while ((chunk = cached.pollFirst()) != null) {
+                    threadCache.bytes -= chunk.capacity();
+                    this.delegate.release(chunk);
+                }
+            });
+            this.pool.values().forEach(pooled -> {
+                ByteBuffer chunk;
+                while ((chunk = pooled.poll()) != null) {
+                    this.pooledBytes.addAndGet(-chunk.capacity());
+                    this.delegate.release(chunk);
+                }
+            });
+        }
+    }
+
+    /**
+     * Chunk buffer that can be shared between channels, released when no channel references it
+     */
+    private static final class Chunk {
+
+        private final ByteBuffer buffer;
+        private final Consumer<ByteBuffer> releaser;
+        private final AtomicInteger references;
+
+        Chunk(final ByteBuffer _buffer, final Consumer<ByteBuffer> _releaser) {
+            this.buffer = _buffer;
+            this.releaser = _releaser;
+            this.references = new AtomicInteger(1);
+        }
+
+        Chunk share() {
+            this.references.incrementAndGet();
+            return this;
+        }
+        boolean isShared() {
+            return this.references.get() > 1;
+        }
+        void release() {
+            if (this.references.decrementAndGet() == 0) {
+                this.releaser.accept(this.buffer);
+            }
+        }
+    }
+
+    /**
+     * Spill temporal file, closed and deleted when neither the channel nor any mapped chunk references it
+     */
+    private static final class SpillFile {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger references;
+
+        SpillFile() throws IOException {
+            this.path = Files.createTempFile("memory-channel", ".spill");
+            try {
+                this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(this.path);
+                throw e;
+            }
+            this.references = new AtomicInteger(1);
+        }
+
+        /**
+         * Map the given file region as a new chunk that references this file until released
+         * @param _from region start
+         * @param _length region length
+         * @return mapped chunk
+         * @throws IOException if the region can not be mapped
+         */
+        Chunk map(final long _from, final int _length) throws IOException {
+            final ByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, _from, _length);
+            this.references.incrementAndGet();
+            return new Chunk(buffer, mapped -> {
+                DIRECT_CLEANER.accept(mapped);
+                try {
+                    release();
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "spill::" + this.path + "::delete::failed", e);
+                }
+            });
+        }
+        /**
+         * Release a reference, closing and deleting the file when it is the last one
+         * @throws IOException if the file can not be closed or deleted
+         */
+        void release() throws IOException {
+            if (this.references.decrementAndGet() == 0) {
+                try {
+                    this.channel.close();
+                } finally {
+                    Files.deleteIfExists(this.path);
+                }
+            }
+        }
+    }
 
     private static final Logger logger = Logger.getLogger(MemorySeekableByteChannel.class.getName());
-    private static final int MEMORY_CHUNK_SIZE = 2048;
+    /**
+     * Releaser of direct and mapped buffers (no-op if the cleaner is not accessible)
+     */
+    static final Consumer<ByteBuffer> DIRECT_CLEANER = directCleaner();
+    /**
+     * Zeros to clean the chunks without backing array in bulk
+     */
+    private static final byte[] ZEROS = new byte[4096];
+    /**
+     * Default minimum (first) chunk size
+     */
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 2048;
+    /**
+     * Default maximum chunk size
+     */
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 1 << 20;
+    private static final int MIN_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * List of data buffers slots, chunk i has 2^min(baseShift+i,maxShift) capacity
+     */
+    private final List<Chunk> chunks;
+    /**
+     * Chunks provider
+     */
+    private final ChunkAllocator allocator;
+    /**
+     * Shift of the first chunk size
+     */
+    private final int baseShift;
+    /**
+     * Shift of the maximum chunk size
+     */
+    private final int maxShift;
+    /**
+     * Index of the first chunk with the maximum chunk size
+     */
+    private final int maxChunkIndex;
+    /**
+     * Absolute position where the first chunk with the maximum chunk size starts
+     */
+    private final long maxChunkStart;
+    /**
+     * Flag to indicate read-only channel
+     */
+    private final boolean readOnly;
+    /**
+     * Absolute position of the first byte of this channel (only read-only views can have offset)
+     */
+    private final long baseOffset;
+    /**
+     * Size beyond which the content is spilled to a memory mapped temporal file
+     */
+    private final long spillThreshold;
+    /**
+     * Spill temporal file (null until spilled)
+     */
+    private SpillFile spill;
+    /**
+     * Current total size
+     */
+    private long currentSize;
+    /**
+     * Absolute position
+     */
+    private long position;
+    /**
+     * flag to indicate channel closed
+     */
+    private volatile boolean closed;
+    /**
+     * Lock for multithreading, guards chunks, currentSize and position.
+     * Positional reads and in-place positional writes share the read lock, any operation that moves the position or changes the size takes the write lock
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty channel with chunks from DEFAULT_MIN_CHUNK_SIZE doubling up to DEFAULT_MAX_CHUNK_SIZE
+     */
+    public MemorySeekableByteChannel() {
+        this(DEFAULT_MIN_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an empty channel with chunk sizes adapted to the expected size.
+     * The first chunk has the expected size rounded up to the next power of two (bounded between 16 bytes and DEFAULT_MAX_CHUNK_SIZE), the following chunks double its size up to DEFAULT_MAX_CHUNK_SIZE
+     * @param _sizeHint expected size of the channel (can grow beyond it)
+     * @throws IllegalArgumentException if _sizeHint is negative
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final long _sizeHint) {
+        this(chunkSizeFor(_sizeHint), Math.max(chunkSizeFor(_sizeHint), DEFAULT_MAX_CHUNK_SIZE));
+    }
+
+    /**
+     * Creates an empty channel with chunks from _minChunkSize doubling up to _maxChunkSize
+     * @param _minChunkSize first chunk size, must be a power of two between 16 bytes and 1GB
+     * @param _maxChunkSize maximum chunk size, must be a power of two between _minChunkSize and 1GB (use _minChunkSize for fixed size chunks)
+     * @throws IllegalArgumentException if any chunk size is not a power of two, out of bounds or _minChunkSize is greater than _maxChunkSize
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final int _minChunkSize, final int _maxChunkSize) {
+        this(_minChunkSize, _maxChunkSize, ChunkAllocator.HEAP);
+    }
+
+    /**
+     * Creates an empty channel with chunks from DEFAULT_MIN_CHUNK_SIZE doubling up to DEFAULT_MAX_CHUNK_SIZE provided by the given allocator
+     * @param _allocator chunks allocator
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final ChunkAllocator _allocator) {
+        this(DEFAULT_MIN_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE, _allocator);
+    }
+
+    /**
+     * Creates an empty channel with chunks from _minChunkSize doubling up to _maxChunkSize provided by the given allocator
+     * @param _minChunkSize first chunk size, must be a power of two between 16 bytes and 1GB
+     * @param _maxChunkSize maximum chunk size, must be a power of two between _minChunkSize and 1GB (use _minChunkSize for fixed size chunks)
+     * @param _allocator chunks allocator
+     * @throws IllegalArgumentException if any chunk size is not a power of two, out of bounds or _minChunkSize is greater than _maxChunkSize or _allocator is null
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final int _minChunkSize, final int _maxChunkSize, final ChunkAllocator _allocator) {
+        this(_minChunkSize, _maxChunkSize, _allocator, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty channel with chunks from _minChunkSize doubling up to _maxChunkSize provided by the given allocator that spills its content to a memory mapped temporal file when grows beyond _spillThreshold
+     * @param _minChunkSize first chunk size, must be a power of two between 16 bytes and 1GB
+     * @param _maxChunkSize maximum chunk size, must be a power of two between _minChunkSize and 1GB (use _minChunkSize for fixed size chunks)
+     * @param _allocator chunks allocator (used until spilled)
+     * @param _spillThreshold size beyond which the content is spilled to a memory mapped temporal file (Long.MAX_VALUE to never spill)
+     * @throws IllegalArgumentException if any chunk size is not a power of two, out of bounds or _minChunkSize is greater than _maxChunkSize or _allocator is null or _spillThreshold is negative
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final int _minChunkSize, final int _maxChunkSize, final ChunkAllocator _allocator, final long _spillThreshold) {
+        if (_spillThreshold < 0l) {
+            throw new IllegalArgumentException("Spill threshold can not be negative [" + _spillThreshold + "]");
+        }
+        if (_allocator == null) {
+            throw new IllegalArgumentException("Chunk allocator can not be null");
+        }
+        if ((_minChunkSize < MIN_CHUNK_SIZE) || (_minChunkSize > MAX_CHUNK_SIZE) || (Integer.bitCount(_minChunkSize) != 1)) {
+            throw new IllegalArgumentException("Minimum chunk size must be a power of two between " + MIN_CHUNK_SIZE + " and " + MAX_CHUNK_SIZE + " [" + _minChunkSize + "]");
+        }
+        if ((_maxChunkSize < _minChunkSize) || (_maxChunkSize > MAX_CHUNK_SIZE) || (Integer.bitCount(_maxChunkSize) != 1)) {
+            throw new IllegalArgumentException("Maximum chunk size must be a power of two between " + _minChunkSize + " and " + MAX_CHUNK_SIZE + " [" + _maxChunkSize + "]");
+        }
+        this.baseShift = Integer.numberOfTrailingZeros(_minChunkSize);
+        this.maxShift = Integer.numberOfTrailingZeros(_maxChunkSize);
+        this.maxChunkIndex = this.maxShift - this.baseShift;
+        this.maxChunkStart = ((1l << this.maxChunkIndex) - 1) << this.baseShift;
+        this.chunks = new ArrayList<>();
+        this.allocator = _allocator;
+        this.readOnly = false;
+        this.baseOffset = 0l;
+        this.spillThreshold = _spillThreshold;
+        this.spill = null;
+        this.closed = false;
+        this.currentSize = 0l;
+        this.position = 0l;
+    }
+
+    /**
+     * Creates a channel with the content of the given input stream, the position remains at the beginning of the channel.
+     * The stream is read directly into the chunks without intermediate buffers
+     * @param _inputStream input stream to read (closed after read)
+     * @throws UncheckedIOException if the input stream can not be read
+     */
+    public MemorySeekableByteChannel(final InputStream _inputStream) {
+        this(channelOf(_inputStream), -1l);
+    }
+
+    /**
+     * Creates a channel with the content of the given input stream of known length, the position remains at the beginning of the channel.
+     * The chunks to store _length bytes are allocated at once (a single chunk up to DEFAULT_MAX_CHUNK_SIZE) and the stream is read directly into them without intermediate buffers.
+     * If the stream has more content than the expected the channel grows to store it
+     * @param _inputStream input stream to read (closed after read)
+     * @param _length expected length of the input stream content
+     * @throws IllegalArgumentException if _length is negative
+     * @throws UncheckedIOException if the input stream can not be read
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final InputStream _inputStream, final long _length) {
+        this(channelOf(_inputStream), checkLength(_length));
+    }
+
+    /**
+     * Creates a channel with the content of the given channel from its current position to the end, the position remains at the beginning of the channel.
+     * The source is read directly into the chunks without intermediate buffers, if the source is a SeekableByteChannel (as FileChannel) its remaining size is used as known length and the chunks are allocated at once
+     * @param _source channel to read (closed after read)
+     * @throws UncheckedIOException if the source channel can not be read
+     * @since 1.10.0
+     */
+    public MemorySeekableByteChannel(final ReadableByteChannel _source) {
+        this(_source, lengthOf(_source));
+    }
+
+    /**
+     * Creates a channel with the content of the given channel
+     * @param _source channel to read (closed after read)
+     * @param _length expected length (negative if unknown)
+     * @throws UncheckedIOException if the source channel can not be read
+     */
+    private MemorySeekableByteChannel(final ReadableByteChannel _source, final long _length) {
+        this(firstChunkSizeFor(_length), Math.max(firstChunkSizeFor(_length), DEFAULT_MAX_CHUNK_SIZE));
+        try ( ReadableByteChannel source = _source) {
+            logger.log(Level.FINEST, "init::read-channel::begin::{0}", _length);
+            if (_length > 0l) {
+                ensureCapacity(_length);
+                if (transferFromAt(source, 0l, _length) == _length) {
+                    // probe for more content than expected without allocate a new chunk
+                    final ByteBuffer probe = ByteBuffer.allocate(1);
+                    if (source.read(probe) > 0) {
+                        probe.flip();
+                        writeAt(probe, _length);
+                        transferFromAt(source, _length + 1, Long.MAX_VALUE);
+                    }
+                }
+            } else {
+                transferFromAt(source, 0l, Long.MAX_VALUE);
+            }
+            logger.log(Level.FINEST, "init::read-channel::end::{0}", this.currentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Check the channel is open
+     * @throws ClosedChannelException if the channel is closed
+     */
+    private void ensureOpen() throws ClosedChannelException {
+        if (this.closed) {
+            throw new ClosedChannelException();
+        }
+    }
+    /**
+     * Check the channel is writable
+     * @throws NonWritableChannelException if the channel is read-only
+     */
+    private void ensureWritable() {
+        if (this.readOnly) {
+            throw new NonWritableChannelException();
+        }
+    }
+    /**
+     * Build the direct buffers cleaner for the running jvm, sun.misc.Unsafe#invokeCleaner for java 9+ or sun.misc.Cleaner for java 8.
+     * If none is available direct buffers are released by the garbage collector
+     * @return direct buffer cleaner
+     */
+    private static Consumer<ByteBuffer> directCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    logger.log(Level.FINEST, "direct-cleaner::release::failed", e);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.FINEST, "direct-cleaner::unsafe::not-available::{0}", e);
+        }
+        try {
+            final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                try {
+                    final Object bufferCleaner = cleaner.invoke(buffer);
+                    if (bufferCleaner != null) {
+                        clean.invoke(bufferCleaner);
+                    }
+                } catch (ReflectiveOperationException e) {
+                    logger.log(Level.FINEST, "direct-cleaner::release::failed", e);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.FINEST, "direct-cleaner::cleaner::not-available::{0}", e);
+        }
+        return buffer -> {
+        };
+    }
+    /**
+     * Creates a view of the given channel sharing its chunks (mapped chunks too if the source is spilled, the view is not spilled until it grows beyond the spill threshold), must be called with the source write lock
+     * @param _source channel to view
+     * @param _readOnly read only view
+     * @param _from position of the source channel where the view starts
+     * @param _size size of the view
+     * @param _position initial position of the view
+     */
+    private MemorySeekableByteChannel(final MemorySeekableByteChannel _source, final boolean _readOnly, final long _from, final long _size, final long _position) {
+        this.baseShift = _source.baseShift;
+        this.maxShift = _source.maxShift;
+        this.maxChunkIndex = _source.maxChunkIndex;
+        this.maxChunkStart = _source.maxChunkStart;
+        this.allocator = _source.allocator;
+        this.spillThreshold = _source.spillThreshold;
+        this.spill = null;
+        this.readOnly = _readOnly;
+        this.baseOffset = _source.baseOffset + _from;
+        this.chunks = new ArrayList<>(_source.chunks.size());
+        final int first = chunkIndex(this.baseOffset);
+        final int last = usedChunks(this.baseOffset + _size) - 1;
+        for (int ic1 = 0; ic1 <= last; ic1++) {
+            final Chunk chunk = _source.chunks.get(ic1);
+            if (ic1 < first) {
+                this.chunks.add(null);
+            } else {
+                this.chunks.add(chunk.share());
+            }
+        }
+        this.currentSize = _size;
+        this.position = _position;
+        this.closed = false;
+    }
+
+    /**
+     * Adapt the input stream to channel, reading directly into the destiny array if exist
+     * @param _inputStream input stream to adapt
+     * @return channel that reads from the input stream
+     */
+    private static ReadableByteChannel channelOf(final InputStream _inputStream) {
+
+        final ReadableByteChannel fallback = Channels.newChannel(_inputStream);
+
+        return new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer _destiny) throws IOException {
+                if (_destiny.hasArray()) {
+                    final int reply = _inputStream.read(_destiny.array(), _destiny.arrayOffset() + _destiny.position(), _destiny.remaining());
+                    if (reply > 0) {
+                        _destiny.position(_destiny.position() + reply);
+                    }
+                    return reply;
+                }
+                return fallback.read(_destiny);
+            }
+            @Override
+            public boolean isOpen() {
+                return fallback.isOpen();
+            }
+            @Override
+            public void close() throws IOException {
+                fallback.close();
+            }
+        };
+    }
+    /**
+     * Validate the expected length
+     * @param _length expected length
+     * @return the same length
+     * @throws IllegalArgumentException if _length is negative
+     */
+    private static long checkLength(final long _length) {
+        if (_length < 0l) {
+            throw new IllegalArgumentException("Length can not be negative [" + _length + "]");
+        }
+        return _length;
+    }
+    /**
+     * Return the remaining length of the given channel if known
+     * @param _source source channel
+     * @return remaining length or -1 if unknown
+     */
+    private static long lengthOf(final ReadableByteChannel _source) {
+        if (_source instanceof SeekableByteChannel) {
+            try {
+                final SeekableByteChannel seekable = (SeekableByteChannel) _source;
+                return Math.max(0l, seekable.size() - seekable.position());
+            } catch (IOException e) {
+                logger.log(Level.FINEST, "init::length::unknown::{0}", e);
+            }
+        }
+        return -1l;
+    }
+    /**
+     * Return the first chunk size to use for the given expected length
+     * @param _length expected length (negative if unknown)
+     * @return DEFAULT_MIN_CHUNK_SIZE if the length is unknown or the chunk size for the expected length
+     */
+    private static int firstChunkSizeFor(final long _length) {
+        return (_length < 0l) ? DEFAULT_MIN_CHUNK_SIZE : chunkSizeFor(_length);
+    }
+    /**
+     * Return the first chunk size to use for the given expected size
+     * @param _sizeHint expected size
+     * @return power of two chunk size between MIN_CHUNK_SIZE and DEFAULT_MAX_CHUNK_SIZE
+     */
+    private static int chunkSizeFor(final long _sizeHint) {
+        if (_sizeHint < 0l) {
+            throw new IllegalArgumentException("Size hint can not be negative [" + _sizeHint + "]");
+        }
+        if (_sizeHint <= MIN_CHUNK_SIZE) {
+            return MIN_CHUNK_SIZE;
+        }
+        if (_sizeHint >= DEFAULT_MAX_CHUNK_SIZE) {
+            return DEFAULT_MAX_CHUNK_SIZE;
+        }
+        return Integer.highestOneBit((int) _sizeHint - 1) << 1;
+    }
+    /**
+     * Return the chunk index of the given position
+     * @param _position absolute position
+     * @return chunk index
+     */
+    private int chunkIndex(final long _position) {
+        if (_position < this.maxChunkStart) {
+            return 63 - Long.numberOfLeadingZeros((_position >>> this.baseShift) + 1);
+        }
+        return this.maxChunkIndex + (int) ((_position - this.maxChunkStart) >>> this.maxShift);
+    }
+    /**
+     * Return the absolute position where the given chunk starts
+     * @param _index chunk index
+     * @return absolute position of the first byte of the chunk
+     */
+    private long chunkStart(final int _index) {
+        if (_index < this.maxChunkIndex) {
+            return ((1l << _index) - 1) << this.baseShift;
+        }
+        return this.maxChunkStart + (((long) (_index - this.maxChunkIndex)) << this.maxShift);
+    }
+    /**
+     * Return the length of the given chunk
+     * @param _index chunk index
+     * @return chunk length
+     */
+    private int chunkLength(final int _index) {
+        return 1 << (this.baseShift + Math.min(_index, this.maxChunkIndex));
+    }
+
+    /**
+     * Ensure the channel has chunks enough to store up to the given position, spilling to file if the spill threshold is exceeded, must be called with the write lock
+     * @param _end last position (exclusive) to store
+     * @throws IOException if the spill file can not be created or mapped
+     */
+    private void ensureCapacity(final long _end) throws IOException {
+        if ((this.spill == null) && (_end > this.spillThreshold)) {
+            spill();
+        }
+        long capacity = chunkStart(this.chunks.size());
+        while (capacity < _end) {
+            final int index = this.chunks.size();
+            final int length = chunkLength(index);
+            this.chunks.add(newChunk(index));
+            capacity += length;
+        }
+    }
+    /**
+     * Create a new chunk for the given index, mapped if spilled or provided by the allocator otherwise
+     * @param _index chunk index
+     * @return new chunk
+     * @throws IOException if the region can not be mapped
+     */
+    private Chunk newChunk(final int _index) throws IOException {
+        return (this.spill == null) ? new Chunk(this.allocator.allocate(chunkLength(_index)), this.allocator::release) : this.spill.map(chunkStart(_index), chunkLength(_index));
+    }
+    /**
+     * Copy the whole content of the source chunk to the target chunk
+     * @param _target target chunk
+     * @param _source source chunk
+     * @return the target chunk
+     */
+    private static Chunk fill(final Chunk _target, final Chunk _source) {
+        final ByteBuffer source = _source.buffer.duplicate();
+        source.clear();
+        _target.buffer.duplicate().put(source);
+        return _target;
+    }
+    /**
+     * Return the chunk buffer to write, copying it before if it is shared with other channels (copy-on-write), must be called with the write lock or with the read lock if the chunk is not shared.
+     * If spilled the whole content is moved to a new file, the shared file region can not be mapped again
+     * @param _index chunk index
+     * @return chunk buffer owned exclusively by this channel
+     * @throws IOException if the region can not be mapped
+     */
+    private ByteBuffer writableChunk(final int _index) throws IOException {
+        final Chunk chunk = this.chunks.get(_index);
+        if (!chunk.isShared()) {
+            return chunk.buffer;
+        }
+        if (this.spill != null) {
+            spill();
+            return this.chunks.get(_index).buffer;
+        }
+        final Chunk copy = fill(newChunk(_index), chunk);
+        this.chunks.set(_index, copy);
+        chunk.release();
+        return copy.buffer;
+    }
+    /**
+     * Return true if no chunk of the given range is shared with other channels
+     * @param _from first position (inclusive)
+     * @param _to last position (exclusive)
+     * @return true if all the chunks of the range are owned exclusively by this channel
+     */
+    private boolean isExclusive(final long _from, final long _to) {
+        for (int ic1 = chunkIndex(_from); ic1 < usedChunks(_to); ic1++) {
+            if (this.chunks.get(ic1).isShared()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    /**
+     * Move the current content to a new memory mapped temporal file, must be called with the write lock.
+     * If already spilled the previous file is kept until the mapped chunks shared with other channels are released
+     * @throws IOException if the spill file can not be created or mapped
+     */
+    private void spill() throws IOException {
+        logger.log(Level.FINEST, "spill::{0}::begin", this.currentSize);
+        final SpillFile file = new SpillFile();
+        final List<Chunk> mappedChunks = new ArrayList<>(this.chunks.size());
+        try {
+            for (int ic1 = 0; ic1 < this.chunks.size(); ic1++) {
+                mappedChunks.add(fill(file.map(chunkStart(ic1), chunkLength(ic1)), this.chunks.get(ic1)));
+            }
+        } catch (IOException | RuntimeException e) {
+            mappedChunks.forEach(Chunk::release);
+            try {
+                file.release();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        for (int ic1 = 0; ic1 < mappedChunks.size(); ic1++) {
+            this.chunks.set(ic1, mappedChunks.get(ic1)).release();
+        }
+        unspill();
+        this.spill = file;
+        logger.log(Level.FINEST, "spill::{0}::end::{1}", new Object[]{this.currentSize, file.path});
+    }
+    /**
+     * Return the number of chunks needed to store the given size
+     * @param _size size to store
+     * @return number of chunks
+     */
+    private int usedChunks(final long _size) {
+        return (_size == 0l) ? 0 : chunkIndex(_size - 1) + 1;
+    }
+    /**
+     * Release all chunks from the given index, must be called with the write lock.
+     * If spilled the file is truncated, unless any released chunk is still mapped by other channels, then the remaining content is moved to a new file
+     * @param _usedChunks number of chunks to keep
+     * @throws IOException if the spill file can not be truncated
+     */
+    private void releaseChunks(final int _usedChunks) throws IOException {
+        if (this.chunks.size() > _usedChunks) {
+            boolean shared = false;
+            for (int ic1 = this.chunks.size() - 1; ic1 >= _usedChunks; ic1--) {
+                final Chunk chunk = this.chunks.remove(ic1);
+                shared |= chunk.isShared();
+                chunk.release();
+            }
+            if (this.spill != null) {
+                if (shared) {
+                    spill();
+                } else {
+                    this.spill.channel.truncate(chunkStart(_usedChunks));
+                }
+            }
+        }
+    }
+    /**
+     * Release this channel reference to the spill file if exist, the file is closed and deleted once the mapped chunks are released too
+     * @throws IOException if the file can not be closed or deleted
+     */
+    private void unspill() throws IOException {
+        final SpillFile file = this.spill;
+        this.spill = null;
+        if (file != null) {
+            file.release();
+        }
+    }
+    /**
+     * Validate the buffers sub-array
+     * @param _buffers buffers
+     * @param _offset offset of the first buffer
+     * @param _length number of buffers
+     * @throws IndexOutOfBoundsException if the offset or length are out of the buffers array bounds
+     */
+    private static void checkBounds(final ByteBuffer[] _buffers, final int _offset, final int _length) {
+        if ((_offset < 0) || (_length < 0) || (_offset > _buffers.length - _length)) {
+            throw new IndexOutOfBoundsException("Invalid buffers range [offset:" + _offset + ",length:" + _length + "] for " + _buffers.length + " buffers");
+        }
+    }
+    /**
+     * Copy the channel content from the given position to the destiny buffer, must be called with the read or write lock
+     * @param _destiny destiny buffer
+     * @param _position position (relative to the view offset) to start to read
+     * @return number of bytes read (0 if the position is at or beyond the end of the channel)
+     */
+    private int readAt(final ByteBuffer _destiny, final long _position) {
+
+        int reply = 0;
+
+        if (_position < this.currentSize) {
+            final int maxBytes = (int) Math.min(_destiny.remaining(), this.currentSize - _position);
+            final long absolute = this.baseOffset + _position;
+            int index = chunkIndex(absolute);
+            int offset = (int) (absolute - chunkStart(index));
+            while (reply < maxBytes) {
+                final ByteBuffer chunk = this.chunks.get(index++).buffer;
+                final int amount = Math.min(maxBytes - reply, chunk.capacity() - offset);
+                reply += copy(chunk, offset, offset + amount, _destiny);
+                offset = 0;
+            }
+        }
+
+        return reply;
+    }
+    /**
+     * Copy the source buffer content to the channel from the given position, must be called with the write lock or with the read lock if the channel does not grow and the chunks to write are not shared
+     * @param _source source buffer
+     * @param _position absolute position to start to write
+     * @return number of bytes written
+     * @throws IOException if the channel needs to grow and the spill file can not be created or mapped
+     */
+    private int writeAt(final ByteBuffer _source, final long _position) throws IOException {
+
+        final int maxBytes = _source.remaining();
+        final long end = _position + maxBytes;
+        int reply = 0;
+
+        if (maxBytes == 0) {
+            // as FileChannel, empty writes never grow the channel
+            return 0;
+        }
+        if (end > this.currentSize) {
+            ensureCapacity(end);
+        }
+        int index = chunkIndex(_position);
+        int offset = (int) (_position - chunkStart(index));
+        while (reply < maxBytes) {
+            final ByteBuffer chunk = writableChunk(index++);
+            final int amount = Math.min(maxBytes - reply, chunk.capacity() - offset);
+            reply += copy(_source, chunk, offset, offset + amount);
+            offset = 0;
+        }
+        if (end > this.currentSize) {
+            this.currentSize = end;
+        }
+
+        return reply;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !this.closed;
+    }
 
     /**
-     * List of data buffers slots
+     * Return true if the channel content has been spilled to a memory mapped temporal file
+     * @return true if the channel has been spilled
+     * @since 1.10.0
      */
-    private final List<byte[]> chunks;
+    public boolean isSpilled() {
+        this.lock.readLock().lock();
+        try {
+            return this.spill != null;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
     /**
-     * Current data buffer slot
+     * Return true if the channel is read-only
+     * @return true if the channel does not allow writes
+     * @since 1.10.0
      */
-    private int currentChunk;
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
     /**
-     * Current position inside current data buffer slot
+     * Create a view of this channel sharing the chunks from the given provider with the given size and position
+     * @param _readOnly read only view
+     * @param _from position where the view starts
+     * @param _size view size (-1 to use the current channel size)
+     * @param _position view position (-1 to use the current channel position)
+     * @return new view
+     * @throws ClosedChannelException if the channel is closed
      */
-    private int currentChunkPosition;
+    private MemorySeekableByteChannel view(final boolean _readOnly, final long _from, final long _size, final long _position) throws ClosedChannelException {
+
+        final MemorySeekableByteChannel reply;
+
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (_from > this.currentSize) {
+                throw new IllegalArgumentException("Slice can not start beyond the channel size [from:" + _from + ",size:" + this.currentSize + "]");
+            }
+            final long size = (_size < 0l) ? this.currentSize : Math.min(_size, this.currentSize - _from);
+            reply = new MemorySeekableByteChannel(this, _readOnly, _from, size, (_position < 0l) ? this.position : _position);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "view::{0}::from::{1}::size::{2}", new Object[]{_readOnly ? "read-only" : "copy-on-write", _from, size});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
     /**
-     * Current total size
+     * Create a new channel that shares this channel chunks with its own position (initially the same as this channel position) and size.
+     * The new channel is writable only if this channel is writable, shared chunks are copied only when written by any of the channels (copy-on-write) so the duplicate and this channel never see the writes of the other.
+     * Closing a channel does not affect the other
+     * @return new channel sharing the content of this channel
+     * @throws ClosedChannelException if the channel is closed
+     * @since 1.10.0
      */
-    private long currentSize;
+    public MemorySeekableByteChannel duplicate() throws ClosedChannelException {
+        return view(this.readOnly, 0l, -1l, -1l);
+    }
+
     /**
-     * Absolute position
+     * Create a new read-only channel that shares this channel chunks with its own position (initially the same as this channel position) and size.
+     * Later writes to this channel are not visible through the view (copy-on-write).
+     * Closing a channel does not affect the other
+     * @return new read-only channel sharing the content of this channel
+     * @throws ClosedChannelException if the channel is closed
+     * @since 1.10.0
      */
-    private long position;
+    public MemorySeekableByteChannel asReadOnly() throws ClosedChannelException {
+        return view(true, 0l, -1l, -1l);
+    }
+
     /**
-     * flag to indicate channel closed
+     * Create a new read-only channel that shares the given region of this channel chunks, with position 0 and size _length (or the remaining size of this channel if lower).
+     * Later writes to this channel are not visible through the slice (copy-on-write).
+     * Closing a channel does not affect the other
+     * @param _from position of this channel where the slice starts
+     * @param _length slice length
+     * @return new read-only channel sharing the given region of this channel content
+     * @throws IllegalArgumentException if _from or _length are negative or _from is beyond the channel size
+     * @throws ClosedChannelException if the channel is closed
+     * @since 1.10.0
      */
-    private boolean closed;
+    public MemorySeekableByteChannel slice(final long _from, final long _length) throws ClosedChannelException {
+        if ((_from < 0l) || (_length < 0l)) {
+            throw new IllegalArgumentException("Slice from and length can not be negative [from:" + _from + ",length:" + _length + "]");
+        }
+        return view(true, _from, _length, 0l);
+    }
+
     /**
-     * Write lock for multithreading
+     * Create an unbuffered input stream that reads directly from the chunks at the channel position and advances it, as Channels.newInputStream(Channel) does.
+     * Read returns -1 at the end of the channel, closing the stream closes the channel (use duplicate().newInputStream() to keep this channel open)
+     * @return input stream view of this channel
+     * @since 1.10.0
      */
-    private final Object writeLock = new Object();
+    public InputStream newInputStream() {
+        return new ChannelInputStream();
+    }
+
     /**
-     * Read lock for multithreading
+     * Create an unbuffered output stream that writes directly to the chunks at the channel position and advances it, as Channels.newOutputStream(Channel) does.
+     * Closing the stream closes the channel
+     * @return output stream view of this channel
+     * @since 1.10.0
      */
-    private final Object readLock = new Object();
+    public OutputStream newOutputStream() {
+        return new ChannelOutputStream();
+    }
 
-    public MemorySeekableByteChannel() {
-        this.chunks = new ArrayList<>();
-        this.currentChunk = 0;
-        this.currentChunkPosition = 0;
-        this.closed = false;
-        this.currentSize = 0l;
-        this.position = 0l;
+    /**
+     * Unbuffered input stream view of the channel
+     */
+    private final class ChannelInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            return readByte();
+        }
+        @Override
+        public int read(final byte[] _buffer, final int _offset, final int _length) throws IOException {
+            if ((_offset < 0) || (_length < 0) || (_length > _buffer.length - _offset)) {
+                throw new IndexOutOfBoundsException("Invalid range [offset:" + _offset + ",length:" + _length + "] for " + _buffer.length + " bytes");
+            }
+            if (_length == 0) {
+                return 0;
+            }
+            final int reply = MemorySeekableByteChannel.this.read(ByteBuffer.wrap(_buffer, _offset, _length));
+            return (reply == 0) ? -1 : reply;
+        }
+        @Override
+        public long skip(final long _bytes) throws IOException {
+            return skipBytes(_bytes);
+        }
+        @Override
+        public int available() throws IOException {
+            return availableBytes();
+        }
+        @Override
+        public void close() throws IOException {
+            MemorySeekableByteChannel.this.close();
+        }
     }
 
-    public MemorySeekableByteChannel(final InputStream _inputStream) {
-        this();
-        try ( InputStream input = new BufferedInputStream(_inputStream)) {
-            logger.finest("init::read-stream::begin");
-            int read;
-            final byte[] buffer = new byte[MEMORY_CHUNK_SIZE];
-            read = input.read(buffer);
-            while (read > -1) {
-                logger.log(Level.FINEST, "init::read-stream::read::{0}::bytes", read);
-                this.chunks.add(Arrays.copyOf(buffer, read));
-                this.currentChunk=this.chunks.size()-1;
-                this.currentSize += read;
-                read = input.read(buffer);
-            }
-            logger.log(Level.FINEST, "init::read-stream::end::{0}", this.currentSize);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+    /**
+     * Unbuffered output stream view of the channel
+     */
+    private final class ChannelOutputStream extends OutputStream {
+
+        @Override
+        public void write(final int _byte) throws IOException {
+            writeByte(_byte);
+        }
+        @Override
+        public void write(final byte[] _buffer, final int _offset, final int _length) throws IOException {
+            if ((_offset < 0) || (_length < 0) || (_length > _buffer.length - _offset)) {
+                throw new IndexOutOfBoundsException("Invalid range [offset:" + _offset + ",length:" + _length + "] for " + _buffer.length + " bytes");
+            }
+            MemorySeekableByteChannel.this.write(ByteBuffer.wrap(_buffer, _offset, _length));
+        }
+        @Override
+        public void close() throws IOException {
+            MemorySeekableByteChannel.this.close();
         }
     }
 
-    @Override
-    public boolean isOpen() {
-        return !this.closed;
+    /**
+     * Read one byte at the channel position and advance it
+     * @return byte read as int from 0 to 255 or -1 at the end of the channel
+     * @throws ClosedChannelException if the channel is closed
+     */
+    private int readByte() throws ClosedChannelException {
+        ensureOpen();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (this.position >= this.currentSize) {
+                return -1;
+            }
+            final long absolute = this.baseOffset + this.position++;
+            final int index = chunkIndex(absolute);
+            return this.chunks.get(index).buffer.get((int) (absolute - chunkStart(index))) & 0xFF;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+    /**
+     * Write one byte at the channel position and advance it
+     * @param _byte byte to write (the 24 high-order bits are ignored)
+     * @throws IOException if the channel is closed or the spill file can not be created or mapped
+     */
+    private void writeByte(final int _byte) throws IOException {
+        ensureOpen();
+        ensureWritable();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            final long end = this.position + 1;
+            if (end > this.currentSize) {
+                ensureCapacity(end);
+                this.currentSize = end;
+            }
+            final int index = chunkIndex(this.position);
+            writableChunk(index).put((int) (this.position - chunkStart(index)), (byte) _byte);
+            this.position = end;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+    /**
+     * Advance the channel position up to the end of the channel
+     * @param _bytes bytes to skip
+     * @return bytes skipped
+     * @throws ClosedChannelException if the channel is closed
+     */
+    private long skipBytes(final long _bytes) throws ClosedChannelException {
+        ensureOpen();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            final long reply = Math.max(0l, Math.min(_bytes, this.currentSize - this.position));
+            this.position += reply;
+            return reply;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+    /**
+     * Return the remaining bytes from the channel position to the end
+     * @return remaining bytes (up to Integer.MAX_VALUE)
+     * @throws ClosedChannelException if the channel is closed
+     */
+    private int availableBytes() throws ClosedChannelException {
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0l, this.currentSize - this.position));
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     @Override
     public long position() throws IOException {
-        if (this.closed) {
-            throw new ClosedChannelException();
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            return this.position;
+        } finally {
+            this.lock.readLock().unlock();
         }
-        return this.position;
     }
 
     @Override
     public SeekableByteChannel position(final long _newPosition) throws IOException {
 
         logger.log(Level.FINEST, "position::{0}::begin", _newPosition);
-        if (this.closed) {
-            throw new ClosedChannelException();
-        }
+        ensureOpen();
         if (_newPosition < 0l) {
             throw new IllegalArgumentException("Position can not be negative [" + _newPosition + "]");
         }
-        if (_newPosition < this.currentSize) {
-            if (_newPosition < this.position) {
-                logger.log(Level.FINEST, "position::new-position::{0}::is-lower-than::{1}::restart-from-beginning", new Object[]{_newPosition, this.currentSize});
-                this.currentChunk = 0;
-                this.currentChunkPosition = 0;
-                this.position=0l;
-            }
-            logger.log(Level.FINEST, "position::traverse::from::{0}::to::{1}",new Object[]{this.position, _newPosition});
-            while (this.position < _newPosition) {
-                final int chunkSize = this.chunks.get(this.currentChunk).length;
-                if (this.position + chunkSize < _newPosition) {
-                    logger.log(Level.FINEST, "position::{0}/{1}::chunk::{2}::with::{3}::not-enought::jump",new Object[]{this.position,_newPosition, this.currentChunk,chunkSize});
-                    this.position += chunkSize;
-                    this.currentChunk++;
-                } else {
-                    logger.log(Level.FINEST, "position::{0}/{1}::chunk::{2}::with::{3}::enought::positionate",new Object[]{this.position,_newPosition, this.currentChunk,chunkSize});
-                    this.currentChunkPosition = (int) (_newPosition - this.position);
-                    this.position = _newPosition;
-                }
-            }
-        } else {
-            logger.log(Level.FINEST, "position::new-position::{0}::is-greater-than::{1}::go-to-position", new Object[]{_newPosition, this.currentSize});
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
             this.position = _newPosition;
+        } finally {
+            this.lock.writeLock().unlock();
         }
-        logger.log(Level.FINEST, "position::{0}::end (currentChunk:{1},currentChunkPosition:{2})", new Object[]{_newPosition, this.currentChunk, this.currentChunkPosition});
 
         return this;
     }
 
     @Override
-    public int read(ByteBuffer _destiny) throws IOException {
+    public int read(final ByteBuffer _destiny) throws IOException {
 
-        final int maxBytes = _destiny.remaining();
-        int reply = 0;
-        final long lastKnownSize = this.currentSize;
-        long newPosition = this.position;
-        int newCurrentChunk = this.currentChunk;
-        int newCurrentChunkPosition = this.currentChunkPosition;
+        final int reply;
 
-        logger.log(Level.FINEST, "read::{0}::at::{1}/{2}({3}/{4}:{5})::begin", new Object[]{maxBytes,this.position,lastKnownSize,this.currentChunk+1, this.chunks.size(),this.currentChunkPosition});
-        if (this.closed) {
-            throw new ClosedChannelException();
+        ensureOpen();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            reply = readAt(_destiny, this.position);
+            this.position += reply;
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "read::{0}::end (position:{1},size:{2})", new Object[]{reply, this.position, this.currentSize});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
         }
-        if (newPosition < this.currentSize) {
-            synchronized (readLock) {
-                while ((reply < maxBytes) && (newPosition < lastKnownSize)) {
-                    if (newCurrentChunk < this.chunks.size()) {
-                        final byte[] chunk = this.chunks.get(newCurrentChunk);
-                        final int chunkReadableLength = chunk.length - newCurrentChunkPosition;
-                        final int pendingToWrite = maxBytes - reply;
-                        if (pendingToWrite > chunkReadableLength) {
-                            _destiny.put(chunk, newCurrentChunkPosition, chunkReadableLength);
-                            newCurrentChunk++;
-                            newCurrentChunkPosition = 0;
-                            newPosition += chunkReadableLength;
-                            reply += chunkReadableLength;
-                        } else {
-                            _destiny.put(chunk, newCurrentChunkPosition, pendingToWrite);
-                            newCurrentChunkPosition = newCurrentChunkPosition + pendingToWrite;
-                            newPosition += pendingToWrite;
-                            reply += pendingToWrite;
-                        }
-                    }
-                }
-                this.position = newPosition;
-                this.currentChunk = (newCurrentChunk < this.chunks.size()) ? newCurrentChunk : newCurrentChunk - 1;
-                this.currentChunkPosition = newCurrentChunkPosition;
+
+        return reply;
+    }
+
+    /**
+     * Reads a sequence of bytes from this channel into a subsequence of the given buffers in a single locked pass.
+     * As read(ByteBuffer) returns 0 (instead of -1) when the position is at or beyond the end of the channel
+     * @param _destinies buffers into which bytes are to be transferred
+     * @param _offset offset within the buffer array of the first buffer into which bytes are to be transferred
+     * @param _length maximum number of buffers to be accessed
+     * @return the number of bytes read, possibly zero
+     * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do not hold
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    @Override
+    public long read(final ByteBuffer[] _destinies, final int _offset, final int _length) throws IOException {
+
+        long reply = 0;
+
+        checkBounds(_destinies, _offset, _length);
+        ensureOpen();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            for (int ic1 = _offset; (ic1 < _offset + _length) && (this.position < this.currentSize); ic1++) {
+                final int read = readAt(_destinies[ic1], this.position);
+                this.position += read;
+                reply += read;
             }
-        } else {
-            reply = 0;
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "read::{0}::buffers::{1}::end (position:{2},size:{3})", new Object[]{reply, _length, this.position, this.currentSize});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Reads a sequence of bytes from this channel into the given buffers in a single locked pass.
+     * As read(ByteBuffer) returns 0 (instead of -1) when the position is at or beyond the end of the channel
+     * @param _destinies buffers into which bytes are to be transferred
+     * @return the number of bytes read, possibly zero
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    @Override
+    public long read(final ByteBuffer[] _destinies) throws IOException {
+        return read(_destinies, 0, _destinies.length);
+    }
+
+    /**
+     * Reads a sequence of bytes from this channel into the given buffer, starting at the given position.
+     * This method works in the same manner as the read(ByteBuffer) method, except that bytes are read starting at the given position rather than at the channel's current position and the channel position is not modified.
+     * Many threads can read concurrently with this method.
+     * @param _destiny buffer into which bytes are to be transferred
+     * @param _position position at which the transfer is to begin
+     * @return the number of bytes read, possibly zero, or -1 if the given position is greater than or equal to the channel's current size
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @throws IllegalArgumentException if the position is negative
+     * @see java.nio.channels.FileChannel#read(ByteBuffer, long)
+     * @since 1.10.0
+     */
+    public int read(final ByteBuffer _destiny, final long _position) throws IOException {
+
+        final int reply;
+
+        ensureOpen();
+        if (_position < 0l) {
+            throw new IllegalArgumentException("Position can not be negative [" + _position + "]");
+        }
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            reply = (_position < this.currentSize) ? readAt(_destiny, _position) : -1;
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "read::{0}::at::{1}::end (size:{2})", new Object[]{reply, _position, this.currentSize});
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Copy the next bytes of the source buffer directly into the destiny chunk without intermediate arrays
+     * @param _source source buffer (heap or direct), its position is advanced by the copied bytes
+     * @param _destiny destiny chunk
+     * @param _from first destiny offset (inclusive)
+     * @param _to last destiny offset (exclusive)
+     * @return number of bytes copied
+     */
+    protected static final int copy(final ByteBuffer _source, final byte[] _destiny, final int _from, final int _to) {
+
+        final int reply = _to - _from;
+
+        _source.get(_destiny, _from, reply);
+
+        return reply;
+    }
+
+    /**
+     * Copy the next bytes of the source buffer directly into the destiny chunk without intermediate arrays
+     * @param _source source buffer (heap or direct), its position is advanced by the copied bytes
+     * @param _destiny destiny chunk (heap or direct), its position and limit are not modified
+     * @param _from first destiny offset (inclusive)
+     * @param _to last destiny offset (exclusive)
+     * @return number of bytes copied
+     * @since 1.10.0
+     */
+    protected static final int copy(final ByteBuffer _source, final ByteBuffer _destiny, final int _from, final int _to) {
+
+        if (_destiny.hasArray()) {
+            return copy(_source, _destiny.array(), _destiny.arrayOffset() + _from, _destiny.arrayOffset() + _to);
         }
-        logger.log(Level.FINEST, "read::{0}::at::{1}/{2}({3}/{4}:{5}):::end::{6}", new Object[]{maxBytes,this.position,lastKnownSize,this.currentChunk+1, this.chunks.size(),this.currentChunkPosition,reply});
+
+        final int reply = _to - _from;
+        final ByteBuffer destiny = _destiny.duplicate();
+        destiny.limit(_to);
+        destiny.position(_from);
+        final ByteBuffer source = _source.duplicate();
+        source.limit(source.position() + reply);
+        destiny.put(source);
+        _source.position(source.position());
 
         return reply;
     }
 
-    protected static final int copy(ByteBuffer _source, byte[] _destiny, final int _from, final int _to) {
+    /**
+     * Copy the given range of the source chunk directly into the destiny buffer without intermediate arrays
+     * @param _source source chunk (heap or direct), its position and limit are not modified
+     * @param _from first source offset (inclusive)
+     * @param _to last source offset (exclusive)
+     * @param _destiny destiny buffer (heap or direct), its position is advanced by the copied bytes
+     * @return number of bytes copied
+     * @since 1.10.0
+     */
+    protected static final int copy(final ByteBuffer _source, final int _from, final int _to, final ByteBuffer _destiny) {
 
         final int reply = _to - _from;
 
-        final byte[] sourceBytes = new byte[reply];
-        _source.get(sourceBytes);
-        System.arraycopy(sourceBytes, 0, _destiny, _from, _to);
+        if (_source.hasArray()) {
+            _destiny.put(_source.array(), _source.arrayOffset() + _from, reply);
+        } else {
+            final ByteBuffer source = _source.duplicate();
+            source.limit(_to);
+            source.position(_from);
+            _destiny.put(source);
+        }
 
         return reply;
     }
 
+    /**
+     * Fill with zeros the given range of the chunk
+     * @param _chunk chunk to clean, its position and limit are not modified
+     * @param _from first offset (inclusive)
+     * @param _to last offset (exclusive)
+     */
+    private static void clean(final ByteBuffer _chunk, final int _from, final int _to) {
+        if (_chunk.hasArray()) {
+            Arrays.fill(_chunk.array(), _chunk.arrayOffset() + _from, _chunk.arrayOffset() + _to, (byte) 0);
+        } else {
+            final ByteBuffer target = _chunk.duplicate();
+            target.limit(_to);
+            target.position(_from);
+            while (target.hasRemaining()) {
+                target.put(ZEROS, 0, Math.min(ZEROS.length, target.remaining()));
+            }
+        }
+    }
+
     @Override
     public int write(final ByteBuffer _source) throws IOException {
 
-        final int maxBytes = _source.remaining();
-        int reply = 0;
-        long newPosition = this.position;
-        long newCurrentSize = this.currentSize;
-        int newCurrentChunk = this.currentChunk;
-        int newCurrentChunkPosition = this.currentChunkPosition;
+        final int reply;
 
-        logger.finest("write::begin");
-        if (this.closed) {
-            throw new ClosedChannelException();
+        ensureOpen();
+        ensureWritable();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            reply = writeAt(_source, this.position);
+            this.position += reply;
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "write::{0}::end (position:{1},size:{2},chunks:{3})", new Object[]{reply, this.position, this.currentSize, this.chunks.size()});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Writes a sequence of bytes to this channel from a subsequence of the given buffers in a single locked pass, the chunks needed are allocated at once
+     * @param _sources buffers from which bytes are to be retrieved
+     * @param _offset offset within the buffer array of the first buffer from which bytes are to be retrieved
+     * @param _length maximum number of buffers to be accessed
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do not hold
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    @Override
+    public long write(final ByteBuffer[] _sources, final int _offset, final int _length) throws IOException {
+
+        long reply = 0;
+
+        checkBounds(_sources, _offset, _length);
+        ensureOpen();
+        ensureWritable();
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            long total = 0l;
+            for (int ic1 = _offset; ic1 < _offset + _length; ic1++) {
+                total += _sources[ic1].remaining();
+            }
+            if (total == 0l) {
+                // as FileChannel, empty writes never grow the channel
+                return 0l;
+            }
+            final long end = this.position + total;
+            if (end > this.currentSize) {
+                ensureCapacity(end);
+            }
+            for (int ic1 = _offset; ic1 < _offset + _length; ic1++) {
+                final int written = writeAt(_sources[ic1], this.position);
+                this.position += written;
+                reply += written;
+            }
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "write::{0}::buffers::{1}::end (position:{2},size:{3},chunks:{4})", new Object[]{reply, _length, this.position, this.currentSize, this.chunks.size()});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Writes a sequence of bytes to this channel from the given buffers in a single locked pass, the chunks needed are allocated at once
+     * @param _sources buffers from which bytes are to be retrieved
+     * @return the number of bytes written
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    @Override
+    public long write(final ByteBuffer[] _sources) throws IOException {
+        return write(_sources, 0, _sources.length);
+    }
+
+    /**
+     * Writes a sequence of bytes to this channel from the given buffer, starting at the given position.
+     * This method works in the same manner as the write(ByteBuffer) method, except that bytes are written starting at the given position rather than at the channel's current position and the channel position is not modified.
+     * If the given position is greater than the channel's current size then the channel will be grown to accommodate the new bytes (the gap is filled with zeros).
+     * Many threads can overwrite concurrently disjoint regions of the channel with this method, writes that grow the channel are exclusive.
+     * @param _source buffer from which bytes are to be transferred
+     * @param _position position at which the transfer is to begin
+     * @return the number of bytes written
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @throws IllegalArgumentException if the position is negative
+     * @see java.nio.channels.FileChannel#write(ByteBuffer, long)
+     * @since 1.10.0
+     */
+    public int write(final ByteBuffer _source, final long _position) throws IOException {
+
+        final long end = _position + _source.remaining();
+
+        ensureOpen();
+        ensureWritable();
+        if (_position < 0l) {
+            throw new IllegalArgumentException("Position can not be negative [" + _position + "]");
+        }
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            if ((end <= this.currentSize) && isExclusive(_position, end)) {
+                return writeAt(_source, _position);
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            final int reply = writeAt(_source, _position);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "write::{0}::at::{1}::end (size:{2},chunks:{3})", new Object[]{reply, _position, this.currentSize, this.chunks.size()});
+            }
+            return reply;
+        } finally {
+            this.lock.writeLock().unlock();
         }
-        synchronized (writeLock) {
-            if (newPosition >= newCurrentSize) {
-                logger.fine("write::starting-position::after-end::elonging-channel");
-                while (newPosition >= newCurrentSize) {
-                    final long pendingSize = maxBytes-(newCurrentSize-this.currentSize);
-                    final int addedSize=(pendingSize < MEMORY_CHUNK_SIZE)? (int) pendingSize : MEMORY_CHUNK_SIZE;
-                    this.chunks.add(new byte[addedSize]);
-                    newCurrentSize += addedSize;
+    }
+
+    /**
+     * Write the channel content from the given position to the target channel using views of the chunks (gathering writes if the target supports it), must be called with the read or write lock
+     * @param _position absolute position to start to transfer
+     * @param _count maximum number of bytes to transfer
+     * @param _target target channel
+     * @return number of bytes transferred (less than requested if the channel ends or the target does not accept more bytes)
+     * @throws IOException if the target channel fails
+     */
+    private long transferToAt(final long _position, final long _count, final WritableByteChannel _target) throws IOException {
+
+        long reply = 0l;
+
+        if ((_position < this.currentSize) && (_count > 0l)) {
+            final long from = this.baseOffset + _position;
+            final long end = from + Math.min(_count, this.currentSize - _position);
+            final int first = chunkIndex(from);
+            final ByteBuffer[] views = new ByteBuffer[chunkIndex(end - 1) - first + 1];
+            for (int ic1 = 0; ic1 < views.length; ic1++) {
+                final ByteBuffer view = this.chunks.get(first + ic1).buffer.duplicate();
+                final long start = chunkStart(first + ic1);
+                view.limit((int) (Math.min(end, start + view.capacity()) - start));
+                view.position((int) Math.max(0l, from - start));
+                views[ic1] = view;
+            }
+            int current = 0;
+            while (current < views.length) {
+                final long written = (_target instanceof GatheringByteChannel)
+                        ? ((GatheringByteChannel) _target).write(views, current, views.length - current)
+                        : _target.write(views[current]);
+                if (written <= 0l) {
+                    break;
+                }
+                reply += written;
+                while ((current < views.length) && (!views[current].hasRemaining())) {
+                    current++;
                 }
             }
-            while (reply < maxBytes) {
-                final int pendingSize = maxBytes - reply;
-                final byte[] chunk = this.chunks.get(newCurrentChunk);
-                final int chunkWritableLength = chunk.length - newCurrentChunkPosition;
-                if (pendingSize < chunkWritableLength) {
-                    logger.log(Level.FINEST, "write::ending::{0} (pendingSize:{1},chunkWritableLength:{2})", new Object[]{reply, pendingSize, chunkWritableLength});
-                    final int from = newCurrentChunkPosition;
-                    final int to = newCurrentChunkPosition + pendingSize;
-                    final int writeLength = copy(_source, chunk, from, to);
-                    reply += writeLength;
-                    newPosition += writeLength;
-                    newCurrentChunkPosition = to;
-                } else {
-                    if (newCurrentChunkPosition < chunk.length) {
-                        logger.log(Level.FINEST, "write::copying::{0} (amount:{1},chunk:{2},from:{3})", new Object[]{reply, chunk.length, newCurrentChunk, newCurrentChunkPosition});
-                        final int from = newCurrentChunkPosition;
-                        final int to = chunk.length;
-                        final int writeLength = copy(_source, chunk, from, to);
-                        reply += writeLength;
-                        newPosition += writeLength;
-                        newCurrentChunkPosition = to;
-                    } else {
-                        if (newCurrentChunk + 1 == this.chunks.size()) {
-                            logger.log(Level.FINEST, "write::elonging::{0} (amount:{1},at:{2})", new Object[]{reply, MEMORY_CHUNK_SIZE, newCurrentChunk});
-                            this.chunks.add(new byte[MEMORY_CHUNK_SIZE]);
-                            newCurrentChunk++;
-                            newCurrentChunkPosition = 0;
-                            newCurrentSize += MEMORY_CHUNK_SIZE;
-                        } else {
-                            newCurrentChunk++;
-                            newCurrentChunkPosition = 0;
-                        }
-                    }
+        }
+
+        return reply;
+    }
+    /**
+     * Read from the source channel directly into the chunks from the given position, must be called with the write lock
+     * @param _source source channel
+     * @param _position absolute position to start to write
+     * @param _count maximum number of bytes to transfer
+     * @return number of bytes transferred (less than requested if the source channel ends or does not provide more bytes)
+     * @throws IOException if the source channel fails or the spill file can not be created or mapped
+     */
+    private long transferFromAt(final ReadableByteChannel _source, final long _position, final long _count) throws IOException {
+
+        long reply = 0l;
+
+        try {
+            while (reply < _count) {
+                final long current = _position + reply;
+                ensureCapacity(current + 1);
+                final int index = chunkIndex(current);
+                final ByteBuffer view = writableChunk(index).duplicate();
+                final int offset = (int) (current - chunkStart(index));
+                view.limit(offset + (int) Math.min(view.capacity() - offset, _count - reply));
+                view.position(offset);
+                final int read = _source.read(view);
+                if (read <= 0) {
+                    break;
+                }
+                reply += read;
+                if (current + read > this.currentSize) {
+                    this.currentSize = current + read;
                 }
             }
-            this.position = newPosition;
-            this.currentSize = newCurrentSize;
-            this.currentChunk = newCurrentChunk;
-            this.currentChunkPosition = newCurrentChunkPosition;
-            logger.log(Level.FINEST, "write::end::{0} (position:{1},currentChunk:{2},currentChunkPosition:{3},size:{4})", new Object[]{reply, this.position, this.currentChunk, this.currentChunkPosition, this.currentSize});
+        } finally {
+            // release the chunks allocated in advance but not filled
+            releaseChunks(usedChunks(this.currentSize));
+        }
+
+        return reply;
+    }
+
+    /**
+     * Transfers the channel content from the current position to the end into the given target channel and moves the position to the end of the transferred content.
+     * Chunks are written directly (with a single gathering write if the target supports it) without intermediate buffers
+     * @param _target target channel
+     * @return the number of bytes transferred (less than the remaining content only if the target does not accept more bytes)
+     * @throws IllegalArgumentException if the target is this same channel
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    public long transferTo(final WritableByteChannel _target) throws IOException {
+
+        final long reply;
+
+        ensureOpen();
+        if (_target == this) {
+            throw new IllegalArgumentException("Can not transfer to itself");
+        }
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            reply = transferToAt(this.position, Long.MAX_VALUE, _target);
+            this.position += reply;
+            logger.log(Level.FINEST, "transfer-to::{0}::end", reply);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Transfers up to _count bytes of the channel content from the given position into the given target channel, the channel position is not modified.
+     * Chunks are written directly (with a single gathering write if the target supports it) without intermediate buffers
+     * @param _position the position within the channel at which the transfer is to begin
+     * @param _count the maximum number of bytes to be transferred
+     * @param _target target channel
+     * @return the number of bytes transferred, possibly zero
+     * @throws IllegalArgumentException if the position or count are negative or the target is this same channel
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @see java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)
+     * @since 1.10.0
+     */
+    public long transferTo(final long _position, final long _count, final WritableByteChannel _target) throws IOException {
+
+        final long reply;
+
+        ensureOpen();
+        if ((_position < 0l) || (_count < 0l)) {
+            throw new IllegalArgumentException("Position and count can not be negative [position:" + _position + ",count:" + _count + "]");
+        }
+        if (_target == this) {
+            throw new IllegalArgumentException("Can not transfer to itself");
+        }
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            reply = transferToAt(_position, _count, _target);
+            logger.log(Level.FINEST, "transfer-to::{0}::at::{1}::end", new Object[]{reply, _position});
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Transfers the content of the given source channel until its end into this channel from the current position and moves the position to the end of the transferred content.
+     * Bytes are read directly into the chunks without intermediate buffers
+     * @param _source source channel
+     * @return the number of bytes transferred (less than the source content only if the source does not provide more bytes without blocking)
+     * @throws IllegalArgumentException if the source is this same channel
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @since 1.10.0
+     */
+    public long transferFrom(final ReadableByteChannel _source) throws IOException {
+
+        final long reply;
+
+        ensureOpen();
+        ensureWritable();
+        if (_source == this) {
+            throw new IllegalArgumentException("Can not transfer from itself");
+        }
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            reply = transferFromAt(_source, this.position, Long.MAX_VALUE);
+            this.position += reply;
+            logger.log(Level.FINEST, "transfer-from::{0}::end", reply);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return reply;
+    }
+
+    /**
+     * Transfers up to _count bytes from the given source channel into this channel at the given position, the channel position is not modified.
+     * Bytes are read directly into the chunks without intermediate buffers, unlike FileChannel if the given position is beyond the current size the gap is filled with zeros
+     * @param _source source channel
+     * @param _position the position within the channel at which the transfer is to begin
+     * @param _count the maximum number of bytes to be transferred
+     * @return the number of bytes transferred, possibly zero
+     * @throws IllegalArgumentException if the position or count are negative or the source is this same channel
+     * @throws ClosedChannelException if the channel is closed
+     * @throws IOException if some other I/O error occurs
+     * @see java.nio.channels.FileChannel#transferFrom(ReadableByteChannel, long, long)
+     * @since 1.10.0
+     */
+    public long transferFrom(final ReadableByteChannel _source, final long _position, final long _count) throws IOException {
+
+        final long reply;
+
+        ensureOpen();
+        ensureWritable();
+        if ((_position < 0l) || (_count < 0l)) {
+            throw new IllegalArgumentException("Position and count can not be negative [position:" + _position + ",count:" + _count + "]");
+        }
+        if (_source == this) {
+            throw new IllegalArgumentException("Can not transfer from itself");
+        }
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            reply = transferFromAt(_source, _position, _count);
+            logger.log(Level.FINEST, "transfer-from::{0}::at::{1}::end", new Object[]{reply, _position});
+        } finally {
+            this.lock.writeLock().unlock();
         }
 
         return reply;
     }
 
     @Override
-    public SeekableByteChannel truncate(long _size) throws IOException {
+    public SeekableByteChannel truncate(final long _size) throws IOException {
 
         logger.log(Level.FINEST, "truncate::{0}::begin", _size);
-        if (this.closed) {
-            throw new ClosedChannelException();
-        }
+        ensureOpen();
+        ensureWritable();
         if (_size < 0l) {
             throw new IllegalArgumentException("Position can not be negative [" + _size + "]");
         }
-        if (_size < this.currentSize) {
-            synchronized (writeLock) {
-                if (this.position > _size) {
-                    position(_size);
-                }
-                for (int ic1 = this.chunks.size() - 1; ic1 > this.currentChunk; ic1--) {
-                    this.chunks.remove(ic1);
+        this.lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (_size < this.currentSize) {
+                final int usedChunks = usedChunks(_size);
+                releaseChunks(usedChunks);
+                if (usedChunks > 0) {
+                    // clean the remaining data to keep zeros if the channel grows again
+                    final ByteBuffer lastChunk = writableChunk(usedChunks - 1);
+                    clean(lastChunk, (int) (_size - chunkStart(usedChunks - 1)), lastChunk.capacity());
                 }
-                final byte[] lastChunk = Arrays.copyOf(this.chunks.get(this.currentChunk), this.currentChunkPosition);
-                this.chunks.set(this.currentChunk, lastChunk);
                 this.currentSize = _size;
             }
+            if (this.position > _size) {
+                this.position = _size;
+            }
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "truncate::{0}::end (position:{1},chunks:{2})", new Object[]{_size, this.position, this.chunks.size()});
+            }
+        } finally {
+            this.lock.writeLock().unlock();
         }
-        logger.log(Level.FINEST, "truncate::{0}::end (position:{1},currentChunk:{2},currentChunkPosition:{3})", new Object[]{_size, this.position, this.currentChunk, this.currentChunkPosition});
 
         return this;
     }
 
     @Override
     public long size() throws IOException {
-        if (this.closed) {
-            throw new ClosedChannelException();
+        this.lock.readLock().lock();
+        try {
+            ensureOpen();
+            return this.currentSize;
+        } finally {
+            this.lock.readLock().unlock();
         }
-        return this.currentSize;
     }
 
     @Override
     public void close() throws IOException {
-        this.chunks.clear();
-        this.closed = true;
+        this.lock.writeLock().lock();
+        try {
+            if (!this.closed) {
+                this.closed = true;
+                this.chunks.stream()
+                        .filter(chunk -> chunk != null)
+                        .forEach(Chunk::release);
+                this.chunks.clear();
+                unspill();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
     }
 }
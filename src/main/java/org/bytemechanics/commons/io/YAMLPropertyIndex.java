@@ -0,0 +1,539 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.io;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.bytemechanics.commons.io.YAMLPropertyReader.Property;
+
+/**
+ * Property index with the keys stored as a tree of path segments, alternative to a map of full dotted keys for large configurations.
+ * Keys as <code>spec.containers[0].ports[1].name</code> are split in name segments (spec, containers, ports and name) and list indexes ([0] and [1]), each segment name is stored once (interned) and each key prefix is shared by all the keys below it.
+ * The full keys are only built when the properties are enumerated.
+ * Example:
+ * <pre>
+ *     final YAMLPropertyIndex index = new YAMLPropertyReader(Paths.get("pod.yml")).index();
+ *     final String image = index.get("spec.containers[0].image");
+ *     index.stream("spec.containers[*].ports")
+ *         .forEach(property -&gt; ...);
+ * </pre>
+ * Important notes:
+ * <ul>
+ *   <li>Lookup cost is proportional to the key length and does not depend on the number of properties</li>
+ *   <li>List items are stored in arrays by index while they are dense, sparse list indexes are stored in a sorted map</li>
+ *   <li>Not thread-safe while being modified, can be read concurrently once built</li>
+ * </ul>
+ * @author afarre
+ * @since 1.10.0
+ * @see YAMLPropertyReader#index()
+ */
+public final class YAMLPropertyIndex {
+
+    /** Children count from which the named children are looked up through a hash map */
+    private static final int LOOKUP_THRESHOLD = 8;
+    /** Maximum index gap over twice the items count that keeps the list items in an array */
+    private static final int DENSE_SLACK = 64;
+    private static final Node[] EMPTY = new Node[0];
+
+    /**
+     * Index tree node, represents a key prefix
+     */
+    static final class Node {
+
+        /** segment name (interned) or null for list items and list wildcards */
+        private final String name;
+        /** value of the key or null if there is no value */
+        private String value;
+        /** named children in insertion order */
+        private Node[] children;
+        private int size;
+        /** named children by name when there are many */
+        private Map<String, Node> lookup;
+        /** list items by index while dense */
+        private Node[] items;
+        /** list items by index once sparse (null while dense) */
+        private NavigableMap<Integer, Node> sparse;
+        /** number of list items */
+        private int count;
+        /** list wildcard ([*]) child */
+        private Node wildcard;
+
+        Node(final String _name) {
+            this.name = _name;
+            this.value = null;
+            this.children = EMPTY;
+            this.size = 0;
+            this.lookup = null;
+            this.items = EMPTY;
+            this.sparse = null;
+            this.count = 0;
+            this.wildcard = null;
+        }
+
+        /**
+         * Return the named child
+         * @param _name interned name
+         * @return named child or null if not exist
+         */
+        private Node child(final String _name) {
+            if (this.lookup != null) {
+                return this.lookup.get(_name);
+            }
+            for (int ic1 = 0; ic1 < this.size; ic1++) {
+                if (this.children[ic1].name == _name) {
+                    return this.children[ic1];
+                }
+            }
+            return null;
+        }
+        /**
+         * Return the list item
+         * @param _index item index
+         * @return list item or null if not exist
+         */
+        private Node item(final int _index) {
+            if (this.sparse != null) {
+                return this.sparse.get(_index);
+            }
+            return (_index < this.items.length) ? this.items[_index] : null;
+        }
+        /**
+         * Visit the list items ordered by index
+         * @param _visitor item visitor
+         */
+        private void forEachItem(final ItemVisitor _visitor) {
+            if (this.sparse != null) {
+                this.sparse.forEach(_visitor::visit);
+            } else {
+                for (int ic1 = 0; ic1 < this.items.length; ic1++) {
+                    if (this.items[ic1] != null) {
+                        _visitor.visit(ic1, this.items[ic1]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visitor of list items
+     */
+    @FunctionalInterface
+    private interface ItemVisitor {
+        /**
+         * Visit the list item
+         * @param _index item index
+         * @param _item item node
+         */
+        void visit(int _index, Node _item);
+    }
+
+    /** Root node, its named children are the first key segments */
+    private final Node root;
+    /** Interned segment names */
+    private final Map<String, String> names;
+    /** Number of values */
+    private int size;
+
+    /**
+     * Creates an empty index
+     */
+    public YAMLPropertyIndex() {
+        this.root = new Node(null);
+        this.names = new HashMap<>();
+        this.size = 0;
+    }
+
+    /**
+     * Creates an index with all the given properties, the last value is kept for duplicated keys
+     * @param _properties properties to index
+     * @return new index with the given properties
+     */
+    public static YAMLPropertyIndex of(final Stream<Property> _properties) {
+        final YAMLPropertyIndex reply = new YAMLPropertyIndex();
+        _properties.forEachOrdered(property -> reply.put(property.getKey(), property.getValue()));
+        return reply;
+    }
+
+    /**
+     * Return the root node
+     * @return root node
+     */
+    Node root() {
+        return this.root;
+    }
+    /**
+     * Return the named child of the given node, creating it if not exist
+     * @param _parent parent node
+     * @param _name segment name
+     * @return named child
+     */
+    Node child(final Node _parent, final String _name) {
+
+        final String name = this.names.computeIfAbsent(_name, key -> key);
+        Node reply = _parent.child(name);
+
+        if (reply == null) {
+            reply = new Node(name);
+            if (_parent.size == _parent.children.length) {
+                _parent.children = Arrays.copyOf(_parent.children, Math.max(2, _parent.size << 1));
+            }
+            _parent.children[_parent.size++] = reply;
+            if (_parent.lookup != null) {
+                _parent.lookup.put(name, reply);
+            } else if (_parent.size > LOOKUP_THRESHOLD) {
+                _parent.lookup = new HashMap<>(_parent.size << 1);
+                for (int ic1 = 0; ic1 < _parent.size; ic1++) {
+                    _parent.lookup.put(_parent.children[ic1].name, _parent.children[ic1]);
+                }
+            }
+        }
+
+        return reply;
+    }
+    /**
+     * Return the list item of the given node, creating it if not exist
+     * @param _parent parent node
+     * @param _index item index
+     * @return list item
+     */
+    Node item(final Node _parent, final int _index) {
+
+        Node reply = _parent.item(_index);
+
+        if (reply == null) {
+            reply = new Node(null);
+            if ((_parent.sparse == null) && (_index >= _parent.items.length)) {
+                if (_index <= (_parent.count << 1) + DENSE_SLACK) {
+                    _parent.items = Arrays.copyOf(_parent.items, Math.max(_index + 1, _parent.items.length + (_parent.items.length >> 1)));
+                } else {
+                    final NavigableMap<Integer, Node> sparse = new TreeMap<>();
+                    _parent.forEachItem(sparse::put);
+                    _parent.sparse = sparse;
+                    _parent.items = EMPTY;
+                }
+            }
+            if (_parent.sparse != null) {
+                _parent.sparse.put(_index, reply);
+            } else {
+                _parent.items[_index] = reply;
+            }
+            _parent.count++;
+        }
+
+        return reply;
+    }
+    /**
+     * Return the list wildcard ([*]) child of the given node, creating it if not exist
+     * @param _parent parent node
+     * @return list wildcard child
+     */
+    Node wildcard(final Node _parent) {
+        if (_parent.wildcard == null) {
+            _parent.wildcard = new Node(null);
+        }
+        return _parent.wildcard;
+    }
+    /**
+     * Replace the value of the given node
+     * @param _node node
+     * @param _value new value
+     * @return previous value or null if there was no value
+     */
+    String value(final Node _node, final String _value) {
+
+        final String reply = _node.value;
+
+        _node.value = _value;
+        if (reply == null) {
+            this.size++;
+        }
+
+        return reply;
+    }
+
+    /**
+     * Return the end of the list index that starts at the given position
+     * @param _key key
+     * @param _from position of the opening bracket
+     * @return position after the closing bracket or -1 if there is not a list index (digits or *) at _from or any list index chained after it is not valid
+     */
+    private static int indexEnd(final String _key, final int _from) {
+
+        final int length = _key.length();
+        int ic1 = _from + 1;
+
+        if ((ic1 < length) && (_key.charAt(ic1) == '*')) {
+            ic1++;
+        } else {
+            final int digits = ic1;
+            while ((ic1 < length) && (ic1 - digits < 9) && (_key.charAt(ic1) >= '0') && (_key.charAt(ic1) <= '9')) {
+                ic1++;
+            }
+            if (ic1 == digits) {
+                return -1;
+            }
+        }
+        if ((ic1 >= length) || (_key.charAt(ic1) != ']')) {
+            return -1;
+        }
+        ic1++;
+        if ((ic1 < length) && (_key.charAt(ic1) == '[')) {
+            // the whole chain must be valid, otherwise the brackets are part of the name
+            return (indexEnd(_key, ic1) == -1) ? -1 : ic1;
+        }
+
+        return ((ic1 == length) || (_key.charAt(ic1) == '.')) ? ic1 : -1;
+    }
+    /**
+     * Return the end of the name that starts at the given position
+     * @param _key key
+     * @param _from name start position
+     * @return position after the name
+     */
+    private static int nameEnd(final String _key, final int _from) {
+
+        final int length = _key.length();
+        int ic1 = _from;
+
+        while ((ic1 < length) && (_key.charAt(ic1) != '.') && ((_key.charAt(ic1) != '[') || (indexEnd(_key, ic1) == -1))) {
+            ic1++;
+        }
+
+        return ic1;
+    }
+    /**
+     * Parse the list index between the given positions
+     * @param _key key
+     * @param _from position of the opening bracket
+     * @param _to position after the closing bracket
+     * @return list index or -1 for the list wildcard
+     */
+    private static int index(final String _key, final int _from, final int _to) {
+
+        if (_key.charAt(_from + 1) == '*') {
+            return -1;
+        }
+        int reply = 0;
+        for (int ic1 = _from + 1; ic1 < _to - 1; ic1++) {
+            reply = reply * 10 + (_key.charAt(ic1) - '0');
+        }
+
+        return reply;
+    }
+
+    /**
+     * Return the node of the given key relative to the given node
+     * @param _from node to start from
+     * @param _key relative key
+     * @param _create create the missing nodes
+     * @return node of the key or null if not exist and _create is false
+     */
+    Node node(final Node _from, final String _key, final boolean _create) {
+
+        final int length = _key.length();
+        Node reply = _from;
+        int ic1 = 0;
+
+        do {
+            final int end = nameEnd(_key, ic1);
+            final String name = _key.substring(ic1, end);
+            if (_create) {
+                reply = child(reply, name);
+            } else {
+                final String interned = this.names.get(name);
+                reply = (interned == null) ? null : reply.child(interned);
+            }
+            ic1 = end;
+            int indexEnd;
+            while ((reply != null) && (ic1 < length) && (_key.charAt(ic1) == '[') && ((indexEnd = indexEnd(_key, ic1)) != -1)) {
+                final int index = index(_key, ic1, indexEnd);
+                if (_create) {
+                    reply = (index == -1) ? wildcard(reply) : item(reply, index);
+                } else {
+                    reply = (index == -1) ? reply.wildcard : reply.item(index);
+                }
+                ic1 = indexEnd;
+            }
+            ic1++;
+        } while ((reply != null) && (ic1 <= length));
+
+        return reply;
+    }
+
+    /**
+     * Add or replace the value of the given key
+     * @param _key property key
+     * @param _value property value
+     * @return previous value or null if there was no value
+     * @throws IllegalArgumentException if _key or _value are null
+     */
+    public String put(final String _key, final String _value) {
+        if (_key == null) {
+            throw new IllegalArgumentException("Property key can not be null");
+        }
+        if (_value == null) {
+            throw new IllegalArgumentException("Property value can not be null");
+        }
+        return value(node(this.root, _key, true), _value);
+    }
+    /**
+     * Return the value of the given key
+     * @param _key property key
+     * @return value of the key or null if not exist
+     */
+    public String get(final String _key) {
+        final Node node = (_key != null) ? node(this.root, _key, false) : null;
+        return (node != null) ? node.value : null;
+    }
+    /**
+     * Return true if the given key has value
+     * @param _key property key
+     * @return true if exist a value for the given key
+     */
+    public boolean containsKey(final String _key) {
+        return get(_key) != null;
+    }
+    /**
+     * Return the number of properties
+     * @return number of properties
+     */
+    public int size() {
+        return this.size;
+    }
+    /**
+     * Return true if there are no properties
+     * @return true if there are no properties
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Add to the builder the properties of the given node and all its descendants
+     * @param _node node
+     * @param _path key path of the node
+     * @param _builder property stream builder
+     */
+    private static void subtree(final Node _node, final StringBuilder _path, final Stream.Builder<Property> _builder) {
+
+        final int mark = _path.length();
+
+        if (_node.value != null) {
+            _builder.add(new Property(_path.toString(), _node.value));
+        }
+        for (int ic1 = 0; ic1 < _node.size; ic1++) {
+            if (mark > 0) {
+                _path.append('.');
+            }
+            subtree(_node.children[ic1], _path.append(_node.children[ic1].name), _builder);
+            _path.setLength(mark);
+        }
+        _node.forEachItem((index, item) -> {
+            subtree(item, _path.append('[').append(index).append(']'), _builder);
+            _path.setLength(mark);
+        });
+        if (_node.wildcard != null) {
+            subtree(_node.wildcard, _path.append("[*]"), _builder);
+            _path.setLength(mark);
+        }
+    }
+    /**
+     * Add to the builder the properties below the nodes that match the prefix from the given position
+     * @param _node current node
+     * @param _prefix key prefix
+     * @param _from prefix position to match
+     * @param _path key path of the current node
+     * @param _builder property stream builder
+     */
+    private void match(final Node _node, final String _prefix, final int _from, final StringBuilder _path, final Stream.Builder<Property> _builder) {
+
+        final int length = _prefix.length();
+        final int mark = _path.length();
+
+        final int indexEnd = ((_from < length) && (_prefix.charAt(_from) == '[')) ? indexEnd(_prefix, _from) : -1;
+
+        if (_from > length) {
+            subtree(_node, _path, _builder);
+        } else if (indexEnd != -1) {
+            final int end = indexEnd;
+            final int index = index(_prefix, _from, end);
+            final int next = ((end < length) && (_prefix.charAt(end) == '.')) ? end + 1 : (end == length) ? length + 1 : end;
+            if (index == -1) {
+                _node.forEachItem((itemIndex, item) -> {
+                    match(item, _prefix, next, _path.append('[').append(itemIndex).append(']'), _builder);
+                    _path.setLength(mark);
+                });
+                if (_node.wildcard != null) {
+                    match(_node.wildcard, _prefix, next, _path.append("[*]"), _builder);
+                    _path.setLength(mark);
+                }
+            } else {
+                final Node item = _node.item(index);
+                if (item != null) {
+                    match(item, _prefix, next, _path.append('[').append(index).append(']'), _builder);
+                }
+            }
+        } else {
+            final int end = nameEnd(_prefix, _from);
+            final String name = this.names.get(_prefix.substring(_from, end));
+            final Node child = (name != null) ? _node.child(name) : null;
+            if (child != null) {
+                if (mark > 0) {
+                    _path.append('.');
+                }
+                final int next = ((end < length) && (_prefix.charAt(end) == '.')) ? end + 1 : (end == length) ? length + 1 : end;
+                match(child, _prefix, next, _path.append(name), _builder);
+            }
+        }
+    }
+
+    /**
+     * Stream all the properties, grouped by key prefix in insertion order with list items by index
+     * @return stream of all the properties
+     */
+    public Stream<Property> stream() {
+        final Stream.Builder<Property> reply = Stream.builder();
+        subtree(this.root, new StringBuilder(), reply);
+        return reply.build();
+    }
+    /**
+     * Stream the properties of the given key and all the keys below it, grouped by key prefix in insertion order with list items by index.
+     * The list wildcard [*] matches all the list items and the list wildcard keys (as the list length), so <code>spec.containers[*].ports</code> streams the ports of all the containers
+     * @param _prefix key prefix (can include list wildcards)
+     * @return stream of the properties below the given prefix
+     */
+    public Stream<Property> stream(final String _prefix) {
+        if ((_prefix == null) || (_prefix.isEmpty())) {
+            return stream();
+        }
+        final Stream.Builder<Property> reply = Stream.builder();
+        match(this.root, _prefix, 0, new StringBuilder(), reply);
+        return reply.build();
+    }
+
+    /**
+     * @see Object#toString()
+     * @return string representation of this index
+     */
+    @Override
+    public String toString() {
+        return String.join("", "YAMLPropertyIndex[size=", String.valueOf(this.size), ", segments=", String.valueOf(this.names.size()), "]");
+    }
+}
@@ -15,15 +15,24 @@
  */
 package org.bytemechanics.commons.io;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
 import java.io.FilterReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -40,7 +49,9 @@ import java.util.stream.StreamSupport;
  * 
  * Important notes:
  * <ul>
- *   <li>Multi-document yaml not supported (please avoid the triple-hyphens syntax)</li>
+ *   <li>Multi-document yaml (triple-hyphens syntax) only supported by {@link #documents()} and {@link #streamDocuments()}, directives and content in the same line of the document markers are not supported</li>
+ *   <li>The parent reader is scanned in blocks through an internal char buffer, mixing direct reads with the property stream is not supported</li>
+ *   <li>Files provided as {@link Path} are scanned as UTF-8 bytes decoding only the keys and values, read in memory or memory-mapped when larger than 1MB (unmapped on close, the properties can not be streamed after closing the reader)</li>
  * </ul>
  * @author afarre
  */
@@ -96,6 +107,9 @@ public class YAMLPropertyReader extends FilterReader {
         }
     }
 
+    /** Files larger than this size are memory-mapped instead of read in memory */
+    private static final int MAP_THRESHOLD = 1 << 20;
+
     /** 
      * Flag to indicate if an additional property must be added to indicate the property list length<br>
      * Example:<br>
@@ -105,6 +119,10 @@ public class YAMLPropertyReader extends FilterReader {
      * </pre>
      */
     private final boolean appendListLength;
+    /** Line scanner over the content */
+    private final LineScanner scanner;
+    /** Memory-mapped content to release on close (null if not mapped) */
+    private ByteBuffer mapped;
     
     /** 
      * Default constructor with appendListLength set true 
@@ -119,10 +137,462 @@ public class YAMLPropertyReader extends FilterReader {
      * @param _appendListLength append list length as an additional property
      */
     public YAMLPropertyReader(Reader _reader,final boolean _appendListLength) {
-        super((_reader instanceof BufferedReader)
-                ? (BufferedReader) _reader
-                : new BufferedReader(_reader));
+        this(_reader, new CharScanner(_reader), _appendListLength);
+    }
+    /** 
+     * Constructor to read the given UTF-8 file with appendListLength set true.
+     * The file is read in memory (or memory-mapped if larger than 1MB) and scanned directly, decoding only the keys and values
+     * @param _path yaml file
+     * @throws UncheckedIOException if the file can not be opened, read or mapped
+     * @since 1.10.0
+     */
+    public YAMLPropertyReader(final Path _path) {
+        this(_path, true);
+    }
+    /** 
+     * Constructor to read the given UTF-8 file capable to define appendListLength value.
+     * The file is read in memory (or memory-mapped if larger than 1MB) and scanned directly, decoding only the keys and values
+     * @param _path yaml file
+     * @param _appendListLength append list length as an additional property
+     * @throws UncheckedIOException if the file can not be opened, read or mapped
+     * @since 1.10.0
+     */
+    public YAMLPropertyReader(final Path _path,final boolean _appendListLength) {
+        this(open(_path), _appendListLength);
+    }
+    /** 
+     * Constructor to read the given UTF-8 content, scanning the bytes directly as with memory-mapped files
+     * @param _content yaml content
+     * @param _appendListLength append list length as an additional property
+     */
+    YAMLPropertyReader(final byte[] _content,final boolean _appendListLength) {
+        this(new InputStreamReader(new ByteArrayInputStream(_content), StandardCharsets.UTF_8), new ByteScanner(ByteBuffer.wrap(_content)), _appendListLength);
+    }
+    /** 
+     * Constructor to read the given file channel
+     * @param _channel file channel
+     * @param _appendListLength append list length as an additional property
+     */
+    private YAMLPropertyReader(final FileChannel _channel,final boolean _appendListLength) {
+        this(_channel, load(_channel), _appendListLength);
+    }
+    /** 
+     * Constructor to read the given file channel content
+     * @param _channel file channel
+     * @param _content file content, in memory or memory-mapped
+     * @param _appendListLength append list length as an additional property
+     */
+    private YAMLPropertyReader(final FileChannel _channel,final ByteBuffer _content,final boolean _appendListLength) {
+        this(Channels.newReader(_channel, StandardCharsets.UTF_8.name()), new ByteScanner(_content), _appendListLength);
+        this.mapped = (_content.isDirect()) ? _content : null;
+    }
+    /** 
+     * Constructor with the line scanner to use
+     * @param _reader parent reader
+     * @param _scanner line scanner
+     * @param _appendListLength append list length as an additional property
+     */
+    private YAMLPropertyReader(final Reader _reader,final LineScanner _scanner,final boolean _appendListLength) {
+        super(_reader);
         this.appendListLength=_appendListLength;
+        this.scanner=_scanner;
+    }
+
+    /**
+     * Open the given file to read
+     * @param _path file to open
+     * @return file channel
+     * @throws UncheckedIOException if the file can not be opened
+     */
+    private static FileChannel open(final Path _path) {
+        try {
+            return FileChannel.open(_path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    /**
+     * Read in memory or memory-map (if larger than MAP_THRESHOLD) the full content of the given file channel, closing the channel if fails
+     * @param _channel file channel to read
+     * @return file content
+     * @throws UncheckedIOException if the file can not be read or mapped
+     */
+    private static ByteBuffer load(final FileChannel _channel) {
+        try {
+            final long size = _channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File of " + size + " bytes can not be mapped, maximum " + Integer.MAX_VALUE + " bytes");
+            }
+            if (size > MAP_THRESHOLD) {
+                return _channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            final ByteBuffer reply = ByteBuffer.allocate((int) size);
+            while ((reply.hasRemaining()) && (_channel.read(reply, reply.position()) >= 0)) {
+                // positional reads keep the channel position for the parent reader
+            }
+            reply.flip();
+            return reply;
+        } catch (IOException e) {
+            try {
+                _channel.close();
+            } catch (IOException e2) {
+                e.addSuppressed(e2);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Line scanner that exposes the current line as a range of absolute indexes over its internal storage, avoiding to create a string for each line
+     */
+    private abstract static class LineScanner {
+
+        /** current line start index (inclusive) */
+        protected int lineStart;
+        /** current line end index (exclusive, line terminator excluded) */
+        protected int lineEnd;
+
+        /**
+         * Advance to the next line
+         * @return true if a new line is available, false at the end of the content
+         * @throws IOException if the content can not be read
+         */
+        abstract boolean nextLine() throws IOException;
+        /**
+         * Return the character at the given absolute index
+         * @param _index absolute index
+         * @return character at the given index
+         */
+        abstract char charAt(int _index);
+        /**
+         * Return the text between the given absolute indexes
+         * @param _from start index (inclusive)
+         * @param _to end index (exclusive)
+         * @return text between the given indexes
+         */
+        abstract String text(int _from, int _to);
+        /**
+         * Read all the remaining content, consuming this scanner
+         * @return scanner over the remaining content
+         * @throws IOException if the content can not be read
+         */
+        abstract LineScanner remaining() throws IOException;
+        /**
+         * Return a scanner over the given range of the content of this scanner, the range must be inside the content returned by {@link #remaining()}
+         * @param _range range as {from (inclusive),to (exclusive)}
+         * @return scanner over the range, sharing this scanner content
+         */
+        abstract LineScanner range(int[] _range);
+
+        /**
+         * Return true if the current line has no content or is a comment
+         * @return true if the current line can be ignored
+         */
+        boolean isIgnorable() {
+            for (int ic1 = this.lineStart; ic1 < this.lineEnd; ic1++) {
+                final char current = charAt(ic1);
+                if (current > ' ') {
+                    return current == '#';
+                }
+            }
+            return true;
+        }
+        /**
+         * Return true if the current line is a document marker: start (triple hyphens) or end (triple dots) 
+         * @return true if the current line is a document marker
+         */
+        boolean isDocumentMarker() {
+            final int length = this.lineEnd - this.lineStart;
+            if (length < 3) {
+                return false;
+            }
+            final char marker = charAt(this.lineStart);
+            return ((marker == '-') || (marker == '.'))
+                    && (charAt(this.lineStart + 1) == marker)
+                    && (charAt(this.lineStart + 2) == marker)
+                    && ((length == 3) || (charAt(this.lineStart + 3) <= ' '));
+        }
+        /**
+         * Scan all the remaining lines to find the document ranges, the content before the first document start marker or after a document end marker is only considered a document if has some content
+         * @return list of document ranges as {from (inclusive),to (exclusive)}
+         * @throws IOException if the content can not be read
+         */
+        List<int[]> documents() throws IOException {
+
+            final List<int[]> reply = new ArrayList<>();
+
+            int from = -1;
+            boolean explicit = false;
+            boolean content = false;
+            while (nextLine()) {
+                if (from == -1) {
+                    from = this.lineStart;
+                }
+                if (isDocumentMarker()) {
+                    if (explicit || content) {
+                        reply.add(new int[]{from, this.lineStart});
+                    }
+                    explicit = (charAt(this.lineStart) == '-');
+                    content = false;
+                    from = this.lineEnd;
+                } else if ((!content) && (!isIgnorable())) {
+                    content = true;
+                }
+            }
+            if (explicit || content) {
+                reply.add(new int[]{from, this.lineEnd});
+            }
+
+            return reply;
+        }
+        /**
+         * Return the first index of the given character in the range
+         * @param _char character to find
+         * @param _from start index (inclusive)
+         * @param _to end index (exclusive)
+         * @return first index of _char or -1 if not found
+         */
+        int indexOf(final char _char, final int _from, final int _to) {
+            for (int ic1 = _from; ic1 < _to; ic1++) {
+                if (charAt(ic1) == _char) {
+                    return ic1;
+                }
+            }
+            return -1;
+        }
+        /**
+         * Return the text in the range without leading and trailing blanks (as {@link String#trim()})
+         * @param _from start index (inclusive)
+         * @param _to end index (exclusive)
+         * @return trimmed text or null if there is no content
+         */
+        String trimmed(final int _from, final int _to) {
+            int from = _from;
+            int to = _to;
+            while ((from < to) && (charAt(from) <= ' ')) {
+                from++;
+            }
+            while ((to > from) && (charAt(to - 1) <= ' ')) {
+                to--;
+            }
+            return (from < to) ? text(from, to) : null;
+        }
+    }
+
+    /**
+     * Line scanner over a reader with a growable char buffer, lines are terminated by \n, \r or \r\n (as {@link java.io.BufferedReader#readLine()})
+     */
+    private static final class CharScanner extends LineScanner {
+
+        /** Default size of the scanning buffer */
+        private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+        private final Reader source;
+        private char[] buffer;
+        private int position;
+        private int limit;
+        private boolean eof;
+        private boolean skipLF;
+
+        CharScanner(final Reader _source) {
+            this.source = _source;
+            this.buffer = new char[DEFAULT_BUFFER_SIZE];
+            this.position = 0;
+            this.limit = 0;
+            this.eof = false;
+            this.skipLF = false;
+        }
+        CharScanner(final String _line) {
+            this(_line.toCharArray(), 0, _line.length());
+            this.position = this.limit;
+            this.lineStart = 0;
+            this.lineEnd = this.limit;
+        }
+        CharScanner(final char[] _buffer, final int _from, final int _to) {
+            this.source = null;
+            this.buffer = _buffer;
+            this.position = _from;
+            this.limit = _to;
+            this.eof = true;
+            this.skipLF = false;
+        }
+
+        @Override
+        LineScanner remaining() throws IOException {
+
+            while (!this.eof) {
+                fill(this.position);
+            }
+            final CharScanner reply = new CharScanner(this.buffer, this.position, this.limit);
+            reply.skipLF = this.skipLF;
+            this.position = this.limit;
+            this.skipLF = false;
+
+            return reply;
+        }
+        @Override
+        LineScanner range(final int[] _range) {
+            return new CharScanner(this.buffer, _range[0], _range[1]);
+        }
+
+        /**
+         * Compact the pending content to the buffer start (or grow the buffer if full) and read more content
+         * @param _scanned index already scanned
+         * @return index already scanned after compact
+         * @throws IOException if the content can not be read
+         */
+        private int fill(final int _scanned) throws IOException {
+
+            final int shift = this.position;
+
+            if (shift > 0) {
+                System.arraycopy(this.buffer, shift, this.buffer, 0, this.limit - shift);
+                this.limit -= shift;
+                this.position = 0;
+            } else if (this.limit == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length << 1);
+            }
+            final int read = this.source.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            if (read < 0) {
+                this.eof = true;
+            } else {
+                this.limit += read;
+            }
+
+            return _scanned - shift;
+        }
+
+        @Override
+        boolean nextLine() throws IOException {
+
+            if (this.skipLF) {
+                if ((this.position == this.limit) && (!this.eof)) {
+                    fill(this.position);
+                }
+                if ((this.position < this.limit) && (this.buffer[this.position] == '\n')) {
+                    this.position++;
+                }
+                this.skipLF = false;
+            }
+            int ic1 = this.position;
+            while (true) {
+                for (; ic1 < this.limit; ic1++) {
+                    final char current = this.buffer[ic1];
+                    if ((current == '\n') || (current == '\r')) {
+                        this.lineStart = this.position;
+                        this.lineEnd = ic1;
+                        this.position = ic1 + 1;
+                        this.skipLF = (current == '\r');
+                        return true;
+                    }
+                }
+                if (this.eof) {
+                    if (this.position < this.limit) {
+                        this.lineStart = this.position;
+                        this.lineEnd = this.limit;
+                        this.position = this.limit;
+                        return true;
+                    }
+                    return false;
+                }
+                ic1 = fill(ic1);
+            }
+        }
+        @Override
+        char charAt(final int _index) {
+            return this.buffer[_index];
+        }
+        @Override
+        String text(final int _from, final int _to) {
+            return new String(this.buffer, _from, _to - _from);
+        }
+    }
+
+    /**
+     * Line scanner over UTF-8 bytes, lines are terminated by \n, \r or \r\n. 
+     * The structural characters are ASCII and never part of multi-byte UTF-8 sequences, so the bytes are scanned directly and only the keys and values are decoded
+     */
+    private static final class ByteScanner extends LineScanner {
+
+        private final ByteBuffer buffer;
+        /** view of the buffer to decode texts */
+        private final ByteBuffer view;
+        private final int limit;
+        private int position;
+        /** reusable bytes to decode texts */
+        private byte[] bytes;
+
+        ByteScanner(final ByteBuffer _buffer) {
+            this(_buffer, skipBOM(_buffer), _buffer.limit());
+        }
+        ByteScanner(final ByteBuffer _buffer, final int _from, final int _to) {
+            this.buffer = _buffer;
+            this.view = _buffer.duplicate();
+            this.position = _from;
+            this.limit = _to;
+            this.bytes = new byte[128];
+        }
+
+        /**
+         * Return the content start skipping the UTF-8 byte order mark if present
+         * @param _buffer content
+         * @return content start index
+         */
+        private static int skipBOM(final ByteBuffer _buffer) {
+            return ((_buffer.limit() >= 3)
+                    && (_buffer.get(0) == (byte) 0xEF)
+                    && (_buffer.get(1) == (byte) 0xBB)
+                    && (_buffer.get(2) == (byte) 0xBF)) ? 3 : 0;
+        }
+
+        @Override
+        boolean nextLine() {
+
+            if (this.position >= this.limit) {
+                return false;
+            }
+            this.lineStart = this.position;
+            for (int ic1 = this.position; ic1 < this.limit; ic1++) {
+                final byte current = this.buffer.get(ic1);
+                if ((current == '\n') || (current == '\r')) {
+                    this.lineEnd = ic1;
+                    this.position = ((current == '\r') && (ic1 + 1 < this.limit) && (this.buffer.get(ic1 + 1) == '\n')) ? ic1 + 2 : ic1 + 1;
+                    return true;
+                }
+            }
+            this.lineEnd = this.limit;
+            this.position = this.limit;
+
+            return true;
+        }
+        @Override
+        char charAt(final int _index) {
+            return (char) (this.buffer.get(_index) & 0xFF);
+        }
+        @Override
+        String text(final int _from, final int _to) {
+
+            final int length = _to - _from;
+
+            if (this.bytes.length < length) {
+                this.bytes = new byte[Math.max(length, this.bytes.length << 1)];
+            }
+            this.view.limit(_to);
+            this.view.position(_from);
+            this.view.get(this.bytes, 0, length);
+
+            return new String(this.bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        @Override
+        LineScanner remaining() {
+            final LineScanner reply = new ByteScanner(this.buffer, this.position, this.limit);
+            this.position = this.limit;
+            return reply;
+        }
+        @Override
+        LineScanner range(final int[] _range) {
+            return new ByteScanner(this.buffer, _range[0], _range[1]);
+        }
     }
 
     /**
@@ -159,44 +629,51 @@ public class YAMLPropertyReader extends FilterReader {
          * @throws UncheckedIOException if cannot parse the provided _line
          */
         public Entry(final String _line){
+            this(new CharScanner(_line));
+        }
+        /** 
+         * Parse the current line of the scanner and convert to Entry, only the key and value texts are extracted
+         * @param _scanner scanner positioned at the line to parse
+         * @throws UncheckedIOException if cannot parse the current line
+         */
+        private Entry(final LineScanner _scanner){
             
+            final int from=_scanner.lineStart;
+            final int to=_scanner.lineEnd;
             boolean entrylistItem=false;
             int entryTab = 0;
             String entryKey=null;
             String entryValue;
 
             try {
-                int ic1 = 0;
-                for (; (ic1 < _line.length() - 1) && (_line.charAt(ic1) == ' '); ic1++) {
-                    final char nextChar=_line.charAt(++ic1);
+                int ic1 = from;
+                for (; (ic1 < to - 1) && (_scanner.charAt(ic1) == ' '); ic1++) {
+                    final char nextChar=_scanner.charAt(++ic1);
                     if (' ' != nextChar)
-                        throw new IOException("Wrong tab at character " + ic1 + ", tabs must be double blank");
+                        throw new IOException("Wrong tab at character " + (ic1-from) + ", tabs must be double blank");
                     entryTab++;
                 }
-                if ('-' == _line.charAt(ic1)) {
-                    if (' ' != _line.charAt(ic1+1))
-                        throw new IOException("Wrong character at " + ic1 + " list items must have blank between - and the key/value");
+                if ((ic1 < to) && ('-' == _scanner.charAt(ic1))) {
+                    if ((ic1 + 1 >= to) || (' ' != _scanner.charAt(ic1+1)))
+                        throw new IOException("Wrong character at " + (ic1-from) + " list items must have blank between - and the key/value");
                     entrylistItem=true;
                     ic1+=2;
                 }
-                int keyValSeparator=_line.indexOf(':',ic1);
+                int keyValSeparator=_scanner.indexOf(':',ic1,to);
                 if(keyValSeparator!=-1){
-                    entryKey=_line.substring(ic1,keyValSeparator).trim();
-                    if(entryKey.isEmpty())
-                        throw new IOException("Key cannot be empty at character " + ic1 + ", keys must have some content distinct from blank");
+                    entryKey=_scanner.trimmed(ic1,keyValSeparator);
+                    if(entryKey==null)
+                        throw new IOException("Key cannot be empty at character " + (ic1-from) + ", keys must have some content distinct from blank");
                     ic1=keyValSeparator+1;
                 }
-                int commentsSeparator=_line.indexOf('#',ic1);
-                int valueEnd=_line.length();
-                if((commentsSeparator!=-1)&&(' '==_line.charAt(commentsSeparator-1))){
+                int commentsSeparator=_scanner.indexOf('#',ic1,to);
+                int valueEnd=to;
+                if((commentsSeparator>from)&&(' '==_scanner.charAt(commentsSeparator-1))){
                     valueEnd=commentsSeparator-1;
                 }
-                entryValue=_line.substring(ic1,valueEnd).trim();
-                if(entryValue.isEmpty()){
-                    if(entryKey==null)
-                        throw new IOException("Key and value cannot be empty at character " + ic1);
-                    entryValue=null;
-                }
+                entryValue=_scanner.trimmed(ic1,valueEnd);
+                if((entryValue==null)&&(entryKey==null))
+                    throw new IOException("Key and value cannot be empty at character " + (ic1-from));
                 this.tab=entryTab;
                 this.listItem=entrylistItem;
                 this.key=entryKey;
@@ -213,215 +690,433 @@ public class YAMLPropertyReader extends FilterReader {
      * @throws ParseException if cannot parse the provided _line
      */
     protected Optional<Entry> readLine() throws ParseException {
+        return Optional.ofNullable(nextEntry());
+    }
 
-        Optional<Entry> reply=Optional.empty();
-        
+    /** 
+     * Scan the next available line with actual content (ignoring comments) and parses to Entry.
+     * @return next entry or null if there are no more lines to read
+     * @throws UncheckedIOException if cannot read or parse the next line
+     */
+    private Entry nextEntry() {
         try {
-            Optional<Entry> parsedLine;
-            Optional<String> readLine;
-            do{
-                readLine=Optional.ofNullable(((BufferedReader) this.in).readLine());
-                parsedLine=readLine
-                                .filter(line -> !line.trim().isEmpty())
-                                .filter(line -> !line.trim().startsWith("#"))
-                                .map(Entry::new);
-            }while((readLine.isPresent())&&(!parsedLine.isPresent()));
-            reply=(readLine.isPresent())? parsedLine : reply;
+            while (this.scanner.nextLine()) {
+                if (!this.scanner.isIgnorable()) {
+                    return new Entry(this.scanner);
+                }
+            }
+            return null;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        
-        return reply;
     }
 
     /**
-     * Stream properties populating them ordered
-     * @return Stream of Properties
+     * Internal class Key to have a detailed key info
      */
-    public Stream<Property> stream() {
-        
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Property>() {
-                  
-                    /**
-                     * Internal class Key to have a detailed key info
-                     */
-                    class Key{
-                        /** key name */
-                        String internalKey=null;
-                        /** key depth (equivalent to entry.tab) */
-                        int depth=0;
-                        /** key list counter to keep an index of the items in the key list */
-                        int listCounter=-1;
-                        
-                        public Key(final String _key,final int _depth,final int _listCounter){
-                            this.internalKey=_key;
-                            this.depth=_depth;
-                            this.listCounter=_listCounter;
-                        }
-                        
-                        /**
-                         * Key non null check
-                         * @return true if key is not null
-                         */
-                        public boolean keyNonNull(){
-                            return this.internalKey!=null;
-                        }
+    private static final class Key {
+        /** key name */
+        private final String internalKey;
+        /** key depth (equivalent to entry.tab) */
+        private final int depth;
+        /** key list counter to keep an index of the items in the key list */
+        private int listCounter;
 
-                        /**
-                         * Builds a key into string key path
-                         * @return key path in string format
-                         */
-                        @Override
-                        public String toString(){
-                            return (listCounter>-1)? String.join("",internalKey,"[",String.valueOf(listCounter),"]") : internalKey;
-                        }
-                    }
-                    /** Class only used to render length keys */
-                    class LengthKey extends Key{
+        Key(final String _key, final int _depth, final int _listCounter) {
+            this.internalKey = _key;
+            this.depth = _depth;
+            this.listCounter = _listCounter;
+        }
+    }
 
-                        public LengthKey(String _key, int _depth, int _listCounter) {
-                            super(_key, _depth, _listCounter);
-                        }
-                        
-                        /**
-                         * Builds a key into string key path
-                         * @return key path in string format
-                         */
-                        @Override
-                        public String toString(){
-                            return internalKey.concat("[*]");
-                        }
-                    }
-                    
-                    private final List<Key> keys=new ArrayList<>();
-                    private final Queue<Property> propertyBuffer = new LinkedList<>();
-
-                    /**
-                     * Adds an additional property length to return buffer if appendListLength is true
-                     */
-                    private void addPropertyLength(){
-                        
-                        if(appendListLength){
-                            final Key current=keys.get(keys.size()-1);
-                            if(current.listCounter>-1){
-                                Stream<Key> tempStream=Stream.<Key>concat(keys.stream().limit(((long)keys.size())-1l), Stream.of(new LengthKey(current.internalKey,current.depth,-1)));
-                                tempStream=Stream.concat(tempStream, Stream.of(new Key("length",0, -1)));
-                                final String lengthKey=writeKeyPath(tempStream);
-                                propertyBuffer.offer(new Property(lengthKey,String.valueOf(current.listCounter+1)));
-                            }
-                        }
-                    }
-                    
-
-                    /**
-                     * Return the last key of the entry
-                     * @param _entry entry to convert to key
-                     * @return last entry key converted to Key object 
-                     */
-                    private Key lastKey(final Entry _entry){
-                        //purge ended keys
-                        while((!keys.isEmpty())&&(keys.get(keys.size()-1).depth>_entry.tab )){
-                            addPropertyLength();
-                            keys.remove(keys.size()-1);
-                        }
-                        //recover last key
-                        return (keys.isEmpty())? null : keys.get(keys.size()-1);
-                    }
-                   
-                    /**
-                     * Builds complete key path concatenating all key paths separated by dot
-                     * @param _keys stream keys
-                     * @return complete key path concatenating all key paths separated by dot
-                     */
-                    private String writeKeyPath(final Stream<Key> _keys){
-                        return _keys.filter(Key::keyNonNull)
-                                    .map(Key::toString)
-                                    .collect(Collectors.joining("."));
-                    }
-                    
-                    /** Read the next property */
-                    public void read(){
-                        
-                        try {
-                            Entry entry = null;
-                            do{
-                                entry = readLine()
-                                            .orElse(null);
-                                if(entry!=null){
-                                    if(entry.value==null){
-                                        final Key lastKey=lastKey(entry);
-                                        if(lastKey==null){
-                                            keys.add(new Key(entry.key,entry.tab,(entry.listItem)? 0 : -1));
-                                        }else{
-                                            if(lastKey.depth==entry.tab){
-                                                if(entry.listItem){
-                                                    lastKey.listCounter++;
-                                                }else{
-                                                    addPropertyLength();
-                                                    keys.remove(keys.size()-1);
-                                                    keys.add(new Key(entry.key,entry.tab,-1));
-                                                }
-                                            }else if(lastKey.depth<entry.tab){
-                                                if(entry.listItem){
-                                                    lastKey.listCounter++;
-                                                }else{
-                                                    keys.add(new Key(entry.key,entry.tab,(entry.listItem)? 0 : -1));
-                                                }
-                                            }
-                                        }
-                                    }else{
-                                        if(entry.listItem){
-                                            final Key lastKey=lastKey(entry);
-                                            if(lastKey!=null){
-                                                lastKey.listCounter++;
-                                            }
-                                        }
-                                    }
+    /**
+     * Receiver of the key structure changes and the properties found while parsing
+     */
+    private interface KeyPath {
+        /**
+         * Key added at the end of the current keys
+         * @param _key added key
+         */
+        void push(Key _key);
+        /**
+         * Last key removed from the current keys
+         * @param _key removed key
+         */
+        void pop(Key _key);
+        /**
+         * List counter of the last key incremented
+         * @param _key last key
+         */
+        void next(Key _key);
+        /**
+         * Property found below the current keys
+         * @param _key property key (can be null for list values)
+         * @param _value property value
+         */
+        void property(String _key, String _value);
+        /**
+         * List length of a removed key, below the current keys
+         * @param _key removed key
+         */
+        void length(Key _key);
+    }
+
+    /**
+     * Key path that builds the complete key of each property incrementally, concatenating all the keys separated by dot
+     */
+    private static final class StringKeyPath implements KeyPath {
+
+        private final StringBuilder path = new StringBuilder(128);
+        /** key path length before each key */
+        private int[] starts = new int[16];
+        private int depth = 0;
+        private final Queue<Property> propertyBuffer = new ArrayDeque<>();
+
+        private void append(final Key _key) {
+            if (this.path.length() > 0) {
+                this.path.append('.');
+            }
+            this.path.append(_key.internalKey);
+            if (_key.listCounter > -1) {
+                this.path.append('[').append(_key.listCounter).append(']');
+            }
+        }
+        @Override
+        public void push(final Key _key) {
+            if (this.depth == this.starts.length) {
+                this.starts = Arrays.copyOf(this.starts, this.depth << 1);
+            }
+            this.starts[this.depth++] = this.path.length();
+            append(_key);
+        }
+        @Override
+        public void pop(final Key _key) {
+            this.path.setLength(this.starts[--this.depth]);
+        }
+        @Override
+        public void next(final Key _key) {
+            this.path.setLength(this.starts[this.depth - 1]);
+            append(_key);
+        }
+        @Override
+        public void property(final String _key, final String _value) {
+            final int mark = this.path.length();
+            if (_key != null) {
+                if (mark > 0) {
+                    this.path.append('.');
+                }
+                this.path.append(_key);
+            }
+            this.propertyBuffer.offer(new Property(this.path.toString(), _value));
+            this.path.setLength(mark);
+        }
+        @Override
+        public void length(final Key _key) {
+            final int mark = this.path.length();
+            if (mark > 0) {
+                this.path.append('.');
+            }
+            this.path.append(_key.internalKey).append("[*].length");
+            this.propertyBuffer.offer(new Property(this.path.toString(), String.valueOf(_key.listCounter + 1)));
+            this.path.setLength(mark);
+        }
+    }
+
+    /**
+     * Key path that stores the properties directly in an index, following the index nodes of the current keys.
+     * Key names are resolved as relative keys, so names with dots or list indexes are indexed as their complete key
+     */
+    private static final class IndexKeyPath implements KeyPath {
+
+        private final YAMLPropertyIndex index;
+        /** current keys */
+        private final List<Key> keys = new ArrayList<>();
+        /** node of each key name (null until resolved) */
+        private final List<YAMLPropertyIndex.Node> named = new ArrayList<>();
+        /** node of each key, the current list item if the key is a list (null until resolved) */
+        private final List<YAMLPropertyIndex.Node> nodes = new ArrayList<>();
+
+        IndexKeyPath(final YAMLPropertyIndex _index) {
+            this.index = _index;
+        }
+
+        /**
+         * Resolve the node of the given key position creating it (and its parents) if not exist.
+         * Nodes are resolved only when a property is stored below them, so the index keeps the same order as the properties stream
+         * @param _position key position
+         * @return the node of the key at the given position or the root if position is negative
+         */
+        private YAMLPropertyIndex.Node resolve(final int _position) {
+
+            if (_position < 0) {
+                return this.index.root();
+            }
+            YAMLPropertyIndex.Node reply = this.nodes.get(_position);
+            if (reply == null) {
+                final Key key = this.keys.get(_position);
+                YAMLPropertyIndex.Node name = this.named.get(_position);
+                if (name == null) {
+                    name = this.index.node(resolve(_position - 1), key.internalKey, true);
+                    this.named.set(_position, name);
+                }
+                reply = (key.listCounter > -1) ? this.index.item(name, key.listCounter) : name;
+                this.nodes.set(_position, reply);
+            }
+
+            return reply;
+        }
+        private YAMLPropertyIndex.Node current() {
+            return resolve(this.keys.size() - 1);
+        }
+        @Override
+        public void push(final Key _key) {
+            this.keys.add(_key);
+            this.named.add(null);
+            this.nodes.add(null);
+        }
+        @Override
+        public void pop(final Key _key) {
+            this.keys.remove(this.keys.size() - 1);
+            this.named.remove(this.named.size() - 1);
+            this.nodes.remove(this.nodes.size() - 1);
+        }
+        @Override
+        public void next(final Key _key) {
+            this.nodes.set(this.nodes.size() - 1, null);
+        }
+        @Override
+        public void property(final String _key, final String _value) {
+            // list values without keys at root level have empty key
+            this.index.value((_key != null) ? this.index.node(current(), _key, true) : (this.keys.isEmpty()) ? this.index.node(current(), "", true) : current(), _value);
+        }
+        @Override
+        public void length(final Key _key) {
+            final YAMLPropertyIndex.Node list = this.index.node(current(), _key.internalKey, true);
+            this.index.value(this.index.child(this.index.wildcard(list), "length"), String.valueOf(_key.listCounter + 1));
+        }
+    }
+
+    /**
+     * Parser of the entries structure, notifies the key changes and properties to the given key path
+     */
+    private final class Parser {
+
+        private final List<Key> keys = new ArrayList<>();
+        private final KeyPath path;
+
+        Parser(final KeyPath _path) {
+            this.path = _path;
+        }
+
+        /**
+         * Adds a new key at the end of the current keys
+         * @param _key key name
+         * @param _depth key depth
+         * @param _listCounter key list counter
+         */
+        private void push(final String _key, final int _depth, final int _listCounter) {
+            final Key key = new Key(_key, _depth, _listCounter);
+            this.keys.add(key);
+            this.path.push(key);
+        }
+        /**
+         * Removes the last key adding an additional property length if appendListLength is true
+         */
+        private void pop() {
+            final Key current = this.keys.remove(this.keys.size() - 1);
+            this.path.pop(current);
+            if ((appendListLength) && (current.listCounter > -1)) {
+                this.path.length(current);
+            }
+        }
+        /**
+         * Increments the list counter of the given key, that must be the last key
+         * @param _key last key
+         */
+        private void nextListItem(final Key _key) {
+            _key.listCounter++;
+            this.path.next(_key);
+        }
+        /**
+         * Return the last key of the entry
+         * @param _entry entry to convert to key
+         * @return last entry key converted to Key object 
+         */
+        private Key lastKey(final Entry _entry) {
+            //purge ended keys
+            while ((!this.keys.isEmpty()) && (this.keys.get(this.keys.size() - 1).depth > _entry.tab)) {
+                pop();
+            }
+            //recover last key
+            return (this.keys.isEmpty()) ? null : this.keys.get(this.keys.size() - 1);
+        }
+
+        /**
+         * Read the next property
+         * @return false if there are no more properties
+         */
+        boolean read() {
+
+            Entry entry = null;
+            do {
+                entry = nextEntry();
+                if (entry != null) {
+                    if (entry.value == null) {
+                        final Key lastKey = lastKey(entry);
+                        if (lastKey == null) {
+                            push(entry.key, entry.tab, (entry.listItem) ? 0 : -1);
+                        } else {
+                            if (lastKey.depth == entry.tab) {
+                                if (entry.listItem) {
+                                    nextListItem(lastKey);
+                                } else {
+                                    pop();
+                                    push(entry.key, entry.tab, -1);
                                 }
-                            }while((entry!=null)&&(entry.value==null));
-                            if(entry!=null){
-                                final String replyKey;
-                                replyKey=writeKeyPath(Stream.concat(keys.stream(), Stream.of(new Key(entry.key,entry.tab, -1))));
-                                this.propertyBuffer.offer(new Property(replyKey,entry.value));
-                            }else{
-                                while(!keys.isEmpty()){
-                                    addPropertyLength();
-                                    keys.remove(keys.size()-1);
+                            } else if (lastKey.depth < entry.tab) {
+                                if (entry.listItem) {
+                                    nextListItem(lastKey);
+                                } else {
+                                    push(entry.key, entry.tab, -1);
                                 }
                             }
-                        } catch (ParseException e) {
-                            throw new UncheckedIOException(new IOException(e));
+                        }
+                    } else {
+                        if (entry.listItem) {
+                            final Key lastKey = lastKey(entry);
+                            if (lastKey != null) {
+                                nextListItem(lastKey);
+                            }
                         }
                     }
-                    
+                }
+            } while ((entry != null) && (entry.value == null));
+            if (entry != null) {
+                this.path.property(entry.key, entry.value);
+            } else {
+                while (!this.keys.isEmpty()) {
+                    pop();
+                }
+            }
+
+            return entry != null;
+        }
+    }
+
+    /**
+     * Stream properties populating them ordered
+     * @return Stream of Properties
+     */
+    public Stream<Property> stream() {
+        
+        final StringKeyPath path = new StringKeyPath();
+        final Parser parser = new Parser(path);
+        
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Property>() {
+                  
+                    private boolean pending = true;
+
                     /** Return true if this splitterator has more elements */
                     @Override
                     public boolean hasNext() {
-                        read();
-                        return !this.propertyBuffer.isEmpty();
+                        while ((path.propertyBuffer.isEmpty()) && (this.pending)) {
+                            this.pending = parser.read();
+                        }
+                        return !path.propertyBuffer.isEmpty();
                     }
 
                     /** Return next element in spliterator */
                     @Override
                     public Property next() {
-
-						if(this.propertyBuffer.isEmpty()){
-                            read();
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
                         }
-						return Optional.ofNullable(this.propertyBuffer)
-										.map(Queue::poll)
-										.orElseThrow(NoSuchElementException::new);
+                        return path.propertyBuffer.poll();
                     }
                 }, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),false)
                     .onClose(this::close);
     }
 
+    /**
+     * Parse all the remaining properties into an index that shares the key prefixes and the key segment names, without building the complete keys.
+     * The index has the same properties as {@link #stream()}, with the last value kept for duplicated keys, and the same iteration order as {@link YAMLPropertyIndex#of(Stream)} of {@link #stream()}
+     * @return property index
+     * @throws UncheckedIOException if the content can not be read or parsed
+     * @since 1.10.0
+     */
+    public YAMLPropertyIndex index() {
+
+        final YAMLPropertyIndex reply = new YAMLPropertyIndex();
+        final Parser parser = new Parser(new IndexKeyPath(reply));
+
+        while (parser.read()) {
+            // all properties are stored in the index while reading
+        }
+
+        return reply;
+    }
+
+    /**
+     * Scan the remaining content to find the documents (separated by triple hyphens) and parse them in parallel.
+     * The remaining content is read in memory before parsing
+     * @return list with the properties of each document, in the same order as the documents
+     * @throws UncheckedIOException if the content can not be read or any document can not be parsed
+     * @since 1.10.0
+     */
+    public List<List<Property>> documents() {
+        return parseDocuments()
+                    .collect(Collectors.toList());
+    }
+    /**
+     * Scan the remaining content to find the documents (separated by triple hyphens) and stream the properties of all the documents parsed in parallel.
+     * The returned stream is parallel, use ordered terminal operations (as {@link Stream#forEachOrdered(java.util.function.Consumer)} or collect) to keep the document order
+     * The remaining content is read in memory before parsing
+     * @return Parallel ordered stream of the properties of all the documents
+     * @throws UncheckedIOException if the content can not be read or any document can not be parsed
+     * @since 1.10.0
+     */
+    public Stream<Property> streamDocuments() {
+        return parseDocuments()
+                    .flatMap(List::stream)
+                    .onClose(this::close);
+    }
+    /**
+     * Pre-scan the document ranges of the remaining content and return a parallel stream that parses each document with its own reader
+     * @return parallel ordered stream of the document properties
+     */
+    private Stream<List<Property>> parseDocuments() {
+
+        final LineScanner content;
+        final List<int[]> ranges;
+        try {
+            content = this.scanner.remaining();
+            ranges = content.documents();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ranges.parallelStream()
+                    .map(range -> new YAMLPropertyReader(new CharArrayReader(new char[0]), content.range(range), this.appendListLength)
+                                        .stream()
+                                        .collect(Collectors.toList()));
+    }
+
     @Override
     public void close() {
         try{
             super.close(); 
         }catch(IOException e){
             throw new UncheckedIOException(e);
+        }finally{
+            final ByteBuffer content;
+            synchronized(this.lock){
+                content=this.mapped;
+                this.mapped=null;
+            }
+            if(content!=null){
+                // unmap now instead of waiting the garbage collector, that keeps the file locked in some platforms
+                MemorySeekableByteChannel.DIRECT_CLEANER.accept(content);
+            }
         }
     }
     
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bytemechanics.commons.io.YAMLPropertyReader.Property;
+
+/**
+ * Yaml file properties that are reloaded when the file content changes, providing the differences with the previously loaded properties.
+ * The file is only parsed again when its content hash changes, so touching the file or saving the same content does not produce any reload.
+ * Usage:
+ * <pre>
+ *     try (YAMLPropertyWatcher watcher = new YAMLPropertyWatcher(Paths.get("config.yml"))) {
+ *         configure(watcher.properties());
+ *         watcher.watch(diff -&gt; diff.getChanged().forEach(this::reconfigure));
+ *         ...
+ *     }
+ * </pre>
+ * Important notes:
+ * <ul>
+ *   <li>Editors can save a file in several steps, intermediate contents that can not be parsed are logged and ignored keeping the previous properties</li>
+ * </ul>
+ * @author afarre
+ * @since 1.10.0
+ * @see YAMLPropertyReader
+ */
+public class YAMLPropertyWatcher implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(YAMLPropertyWatcher.class.getName());
+
+    /**
+     * Differences between two loads of the properties
+     */
+    public static final class Diff {
+
+        /** Properties not present in the previous load */
+        private final List<Property> added;
+        /** Properties present in the previous load with another value (with the new value) */
+        private final List<Property> changed;
+        /** Properties present in the previous load but not in the current one (with the previous value) */
+        private final List<Property> removed;
+
+        /**
+         * Compute the differences between the given loads
+         * @param _previous previous properties
+         * @param _current current properties
+         */
+        Diff(final Map<String, String> _previous, final Map<String, String> _current) {
+            this.added = new ArrayList<>();
+            this.changed = new ArrayList<>();
+            this.removed = new ArrayList<>();
+            _current.forEach((key, value) -> {
+                if (!_previous.containsKey(key)) {
+                    this.added.add(new Property(key, value));
+                } else if (!Objects.equals(_previous.get(key), value)) {
+                    this.changed.add(new Property(key, value));
+                }
+            });
+            _previous.forEach((key, value) -> {
+                if (!_current.containsKey(key)) {
+                    this.removed.add(new Property(key, value));
+                }
+            });
+        }
+
+        /**
+         * Return the properties not present in the previous load, in file order
+         * @return added properties
+         */
+        public List<Property> getAdded() {
+            return Collections.unmodifiableList(this.added);
+        }
+        /**
+         * Return the properties with a different value than in the previous load, with the new value and in file order
+         * @return changed properties
+         */
+        public List<Property> getChanged() {
+            return Collections.unmodifiableList(this.changed);
+        }
+        /**
+         * Return the properties present in the previous load but not in the current one, with the previous value
+         * @return removed properties
+         */
+        public List<Property> getRemoved() {
+            return Collections.unmodifiableList(this.removed);
+        }
+        /**
+         * Return true if there are no differences
+         * @return true if no property has been added, changed or removed
+         */
+        public boolean isEmpty() {
+            return this.added.isEmpty() && this.changed.isEmpty() && this.removed.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.join("", "Diff[added=", String.valueOf(this.added.size()), ", changed=", String.valueOf(this.changed.size()), ", removed=", String.valueOf(this.removed.size()), "]");
+        }
+    }
+
+    /** Watched file */
+    private final Path file;
+    /** Append list length as an additional property */
+    private final boolean appendListLength;
+    /** Last loaded properties */
+    private volatile Map<String, String> properties;
+    /** Last loaded content hash */
+    private byte[] hash;
+    /** Watch service when watching */
+    private WatchService watchService;
+    private volatile boolean closed;
+
+    /**
+     * Load the properties of the given yaml file with appendListLength set true
+     * @param _file yaml file
+     * @throws UncheckedIOException if the file can not be read or parsed
+     */
+    public YAMLPropertyWatcher(final Path _file) {
+        this(_file, true);
+    }
+    /**
+     * Load the properties of the given yaml file
+     * @param _file yaml file
+     * @param _appendListLength append list length as an additional property
+     * @throws IllegalArgumentException if _file is null
+     * @throws UncheckedIOException if the file can not be read or parsed
+     */
+    public YAMLPropertyWatcher(final Path _file, final boolean _appendListLength) {
+        if (_file == null) {
+            throw new IllegalArgumentException("File can not be null");
+        }
+        this.file = _file.toAbsolutePath();
+        this.appendListLength = _appendListLength;
+        this.properties = Collections.emptyMap();
+        this.hash = null;
+        this.watchService = null;
+        this.closed = false;
+        reload();
+    }
+
+    /**
+     * Compute the hash of the given content
+     * @param _content content
+     * @return content hash
+     */
+    private static byte[] digest(final byte[] _content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(_content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parse the given content
+     * @param _content yaml content
+     * @return properties in file order
+     */
+    private Map<String, String> parse(final byte[] _content) {
+        try (YAMLPropertyReader reader = new YAMLPropertyReader(_content, this.appendListLength);
+                Stream<Property> stream = reader.stream()) {
+            return stream.collect(Collectors.toMap(Property::getKey, Property::getValue, (previous, next) -> next, LinkedHashMap::new));
+        }
+    }
+
+    /**
+     * Return the watched file
+     * @return watched file (absolute)
+     */
+    public Path getFile() {
+        return this.file;
+    }
+    /**
+     * Return the last loaded properties
+     * @return unmodifiable map of the last loaded properties in file order
+     */
+    public Map<String, String> properties() {
+        return this.properties;
+    }
+
+    /**
+     * Read the file and if the content has changed since the last load parse it and replace the current properties.
+     * If the content can not be parsed the current properties are kept
+     * @return Optional with the differences with the previous properties or empty if the content has not changed or has no property differences
+     * @throws UncheckedIOException if the file can not be read or parsed
+     */
+    public synchronized Optional<Diff> reload() {
+
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(this.file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final byte[] contentHash = digest(content);
+        if (MessageDigest.isEqual(this.hash, contentHash)) {
+            logger.log(Level.FINEST, "reload::{0}::unchanged", this.file);
+            return Optional.empty();
+        }
+        final Map<String, String> current = Collections.unmodifiableMap(parse(content));
+        final Diff diff = new Diff(this.properties, current);
+        this.properties = current;
+        this.hash = contentHash;
+        logger.log(Level.FINEST, "reload::{0}::{1}", new Object[]{this.file, diff});
+
+        return (diff.isEmpty()) ? Optional.empty() : Optional.of(diff);
+    }
+
+    /**
+     * Start watching the file in a daemon thread, reloading it on each file system change and notifying the differences to the given listener.
+     * The listener is notified holding the watcher lock, so a concurrent {@link #reload()} can not interleave and the notified differences are always in load order
+     * (the differences of a concurrent reload are returned to its caller and not notified)
+     * @param _listener listener of the property differences
+     * @return this watcher
+     * @throws IllegalArgumentException if _listener is null
+     * @throws IllegalStateException if already watching or closed
+     * @throws UncheckedIOException if the file directory can not be watched
+     */
+    public synchronized YAMLPropertyWatcher watch(final Consumer<Diff> _listener) {
+
+        if (_listener == null) {
+            throw new IllegalArgumentException("Listener can not be null");
+        }
+        if (this.closed) {
+            throw new IllegalStateException("Watcher closed");
+        }
+        if (this.watchService != null) {
+            throw new IllegalStateException("Already watching " + this.file);
+        }
+        final WatchService service;
+        try {
+            service = this.file.getFileSystem().newWatchService();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            this.file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            close(service, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            close(service, e);
+            throw e;
+        }
+        this.watchService = service;
+        final Thread watcher = new Thread(() -> watch(service, _listener), "yaml-watcher-" + this.file.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+
+        return this;
+    }
+    /**
+     * Close the watch service after a failure, adding any close failure as suppressed
+     * @param _service watch service to close
+     * @param _failure failure that caused the close
+     */
+    private static void close(final WatchService _service, final Exception _failure) {
+        try {
+            _service.close();
+        } catch (IOException e) {
+            _failure.addSuppressed(e);
+        }
+    }
+    /**
+     * Wait for file system changes of the file directory and reload when the file is affected until the watch service is closed
+     * @param _service watch service
+     * @param _listener listener of the property differences
+     */
+    private void watch(final WatchService _service, final Consumer<Diff> _listener) {
+
+        final Path name = this.file.getFileName();
+
+        try {
+            boolean valid = true;
+            while (valid) {
+                final WatchKey key = _service.take();
+                boolean affected = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    affected |= (event.kind() == StandardWatchEventKinds.OVERFLOW) || name.equals(event.context());
+                }
+                valid = key.reset();
+                if (affected) {
+                    try {
+                        synchronized (this) {
+                            reload().ifPresent(_listener);
+                        }
+                    } catch (RuntimeException e) {
+                        logger.log(Level.WARNING, "watch::" + this.file + "::reload::failed", e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.log(Level.FINEST, "watch::{0}::closed", this.file);
+        }
+    }
+
+    /**
+     * Stop watching the file if watching, the last loaded properties are still available
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.closed) {
+            this.closed = true;
+            if (this.watchService != null) {
+                try {
+                    this.watchService.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -20,6 +20,14 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.text.DecimalFormat;
 import java.text.ParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -208,4 +216,210 @@ public class LambdaUncheckerTest {
 	public void testSupplierSilenceNotThrown(){
 		LambdaUnchecker.silencedGet(() -> new DecimalFormat("#0").parse("a"));
 	}
+
+	@Test
+	@DisplayName("When a silenced exception counter is registered as sink then silenced exceptions are counted by type")
+	public void testSilencedExceptionCounter(){
+		final LambdaUnchecker.SilencedExceptionCounter counter=new LambdaUnchecker.SilencedExceptionCounter(LambdaUnchecker.LOGGER_SINK);
+		LambdaUnchecker.setSilencedExceptionSink(counter);
+		try{
+			Assertions.assertSame(counter,LambdaUnchecker.getSilencedExceptionSink());
+			LambdaUnchecker.silencedGet(() -> new DecimalFormat("#0").parse("a"));
+			LambdaUnchecker.silencedApply((String value) -> new DecimalFormat("#0").parse(value),"a");
+			LambdaUnchecker.silencedApply((String value) -> new DecimalFormat("#0").parse(value),"1");
+			LambdaUnchecker.silencedRun(() -> Class.forName("not.existent.Class"));
+			Assertions.assertEquals(2l,counter.count(ParseException.class));
+			Assertions.assertEquals(1l,counter.count(ClassNotFoundException.class));
+			Assertions.assertEquals(0l,counter.count(IOException.class));
+			Assertions.assertEquals(3l,counter.total());
+			Assertions.assertEquals(2,counter.snapshot().size());
+			counter.reset();
+			Assertions.assertEquals(0l,counter.total());
+		}finally{
+			LambdaUnchecker.setSilencedExceptionSink(null);
+		}
+		Assertions.assertSame(LambdaUnchecker.LOGGER_SINK,LambdaUnchecker.getSilencedExceptionSink());
+	}
+
+	@Test
+	@DisplayName("When supply async unchecked with checked exception then the future is completed exceptionally with the original exception")
+	public void testSupplyAsyncUnchecked() throws InterruptedException, ExecutionException{
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		try{
+			Assertions.assertEquals(1l,LambdaUnchecker.supplyAsyncUnchecked(() -> new DecimalFormat("#0").parse("1")).get());
+			Assertions.assertEquals(1l,LambdaUnchecker.supplyAsyncUnchecked(() -> new DecimalFormat("#0").parse("1"),executor).get());
+			final CompletableFuture<Number> future=LambdaUnchecker.supplyAsyncUnchecked(() -> new DecimalFormat("#0").parse("a"),executor);
+			final ExecutionException exception=Assertions.assertThrows(ExecutionException.class,() -> future.get());
+			Assertions.assertEquals(ParseException.class,exception.getCause().getClass());
+			Assertions.assertEquals(ParseException.class,future.handle((value,error) -> error.getClass()).get());
+			Assertions.assertTrue(future.isCompletedExceptionally());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	@Test
+	@DisplayName("When run async unchecked with checked exception then the future is completed exceptionally with the original exception")
+	public void testRunAsyncUnchecked() throws InterruptedException, ExecutionException{
+		Assertions.assertNull(LambdaUnchecker.runAsyncUnchecked(() -> new DecimalFormat("#0").parse("1")).get());
+		final CompletableFuture<Void> future=LambdaUnchecker.runAsyncUnchecked(() -> new DecimalFormat("#0").parse("a"),Runnable::run);
+		Assertions.assertTrue(future.isCompletedExceptionally());
+		Assertions.assertEquals(ParseException.class,future.handle((value,error) -> error.getClass()).get());
+	}
+	@Test
+	@DisplayName("When the executor rejects the async task then the future is completed exceptionally with the rejection")
+	public void testSupplyAsyncUncheckedRejected() throws InterruptedException, ExecutionException{
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		final CompletableFuture<Number> future=LambdaUnchecker.supplyAsyncUnchecked(() -> new DecimalFormat("#0").parse("1"),executor);
+		Assertions.assertEquals(RejectedExecutionException.class,future.handle((value,error) -> error.getClass()).get());
+	}
+	@Test
+	@DisplayName("When compose with unchecked async function with checked exception then the future is completed exceptionally with the original exception")
+	public void testUncheckedAsyncFunction() throws InterruptedException, ExecutionException{
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		try{
+			Assertions.assertEquals(1l,CompletableFuture.completedFuture("1")
+															.thenCompose(LambdaUnchecker.uncheckedAsyncFunction((String value) -> new DecimalFormat("#0").parse(value)))
+															.get());
+			Assertions.assertEquals(1l,CompletableFuture.completedFuture("1")
+															.thenCompose(LambdaUnchecker.uncheckedAsyncFunction((String value) -> new DecimalFormat("#0").parse(value),executor))
+															.get());
+			final CompletableFuture<Number> future=LambdaUnchecker.uncheckedAsyncFunction((String value) -> new DecimalFormat("#0").parse(value))
+																	.apply("a");
+			Assertions.assertEquals(ParseException.class,future.handle((value,error) -> error.getClass()).get());
+			final CompletableFuture<Number> future2=LambdaUnchecker.uncheckedAsyncFunction((String value) -> new DecimalFormat("#0").parse(value),executor)
+																	.apply("a");
+			Assertions.assertEquals(ParseException.class,future2.handle((value,error) -> error.getClass()).get());
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("When memoized supplier is called several times then the supplier is executed only once")
+	public void testMemoizedSupplier(){
+		final AtomicInteger calls=new AtomicInteger();
+		final Supplier<Number> supplier=LambdaUnchecker.memoizedSupplier(() -> {
+																			calls.incrementAndGet();
+																			return new DecimalFormat("#0").parse("1");
+																		});
+		Assertions.assertEquals(0,calls.get());
+		Assertions.assertEquals(1l,supplier.get());
+		Assertions.assertEquals(1l,supplier.get());
+		Assertions.assertEquals(1,calls.get());
+	}
+	@Test
+	@DisplayName("When memoized supplier fails then the exception is thrown and the next call retries")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void testMemoizedSupplierFailure(){
+		final AtomicInteger calls=new AtomicInteger();
+		final Supplier<Number> supplier=LambdaUnchecker.memoizedSupplier(() -> new DecimalFormat("#0").parse((calls.incrementAndGet()==1)? "a" : "2"));
+		Assertions.assertThrows(ParseException.class,() -> supplier.get());
+		Assertions.assertEquals(2l,supplier.get());
+		Assertions.assertEquals(2l,supplier.get());
+		Assertions.assertEquals(2,calls.get());
+	}
+	@Test
+	@DisplayName("When memoized function is called with repeated inputs then the function is executed once per cached input")
+	public void testMemoizedFunction(){
+		final AtomicInteger calls=new AtomicInteger();
+		final Function<String,Number> function=LambdaUnchecker.memoizedFunction((String value) -> {
+																					calls.incrementAndGet();
+																					return ("null".equals(value))? null : new DecimalFormat("#0").parse(value);
+																				},2);
+		Assertions.assertEquals(1l,function.apply("1"));
+		Assertions.assertEquals(1l,function.apply("1"));
+		Assertions.assertEquals(1,calls.get());
+		Assertions.assertNull(function.apply("null"));
+		Assertions.assertNull(function.apply("null"));
+		Assertions.assertEquals(2,calls.get());
+		Assertions.assertEquals(3l,function.apply("3"));
+		Assertions.assertEquals(3,calls.get());
+		Assertions.assertEquals(1l,function.apply("1"));
+		Assertions.assertEquals(4,calls.get(),"The eldest input should have been evicted");
+		Assertions.assertThrows(ParseException.class,() -> function.apply("a"));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> LambdaUnchecker.memoizedFunction((String value) -> value,0));
+	}
+	@Test
+	@DisplayName("When retrying function fails with a retryable exception then is retried until success")
+	public void testRetryingFunction(){
+		final AtomicInteger calls=new AtomicInteger();
+		final Function<String,Number> function=LambdaUnchecker.retryingFunction((String value) -> new DecimalFormat("#0").parse((calls.incrementAndGet()<3)? "a" : value),3,1l,ParseException.class);
+		Assertions.assertEquals(5l,function.apply("5"));
+		Assertions.assertEquals(3,calls.get());
+	}
+	@Test
+	@DisplayName("When retrying function exhausts the retries or fails with a non retryable exception then the exception is thrown")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void testRetryingFunctionFailure(){
+		final AtomicInteger calls=new AtomicInteger();
+		Assertions.assertThrows(ParseException.class,() -> LambdaUnchecker.retryingFunction((String value) -> {
+																							calls.incrementAndGet();
+																							return new DecimalFormat("#0").parse(value);
+																						},2,1l,ParseException.class)
+																		.apply("a"));
+		Assertions.assertEquals(3,calls.get());
+		calls.set(0);
+		Assertions.assertThrows(ParseException.class,() -> LambdaUnchecker.retryingFunction((String value) -> {
+																							calls.incrementAndGet();
+																							return new DecimalFormat("#0").parse(value);
+																						},2,1l,IOException.class)
+																		.apply("a"));
+		Assertions.assertEquals(1,calls.get());
+		Assertions.assertThrows(IllegalArgumentException.class,() -> LambdaUnchecker.retryingFunction((String value) -> value,-1,1l));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> LambdaUnchecker.retryingFunction((String value) -> value,1,-1l));
+	}
+	@Test
+	@DisplayName("When retrying function fails with InterruptedException then is not retried and the interruption flag is restored")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void testRetryingFunctionInterrupted(){
+		final AtomicInteger calls=new AtomicInteger();
+		try{
+			Assertions.assertThrows(InterruptedException.class,() -> LambdaUnchecker.retryingFunction((String value) -> {
+																								calls.incrementAndGet();
+																								throw new InterruptedException(value);
+																							},3,1l)
+																			.apply("stop"));
+			Assertions.assertEquals(1,calls.get());
+			Assertions.assertTrue(Thread.currentThread().isInterrupted());
+		}finally{
+			Thread.interrupted();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class NotANumberException extends LambdaUnchecker.StacklessException{
+		public NotANumberException(final String _value){
+			super("Not a number: "+_value);
+		}
+	}
+	
+	@Test
+	@DisplayName("When an stackless exception is thrown through an unchecked function then is thrown as is without stack trace")
+	public void testStacklessException(){
+		final NotANumberException exception=Assertions.assertThrows(NotANumberException.class
+																	,() -> LambdaUnchecker.uncheckedApply((String value) -> {
+																								if(!value.matches("[0-9]+"))
+																									throw new NotANumberException(value);
+																								return Integer.valueOf(value);
+																							},"a"));
+		Assertions.assertEquals("Not a number: a",exception.getMessage());
+		Assertions.assertEquals(0,exception.getStackTrace().length);
+		exception.addSuppressed(new IOException());
+		Assertions.assertEquals(0,exception.getSuppressed().length);
+	}
+	@Test
+	@DisplayName("When a preallocated exception is thrown through an unchecked function then the same instance is thrown without stack trace")
+	public void testPreallocatedException(){
+		final ParseException notANumber=LambdaUnchecker.preallocated(new ParseException("Not a number",0));
+		Assertions.assertEquals(0,notANumber.getStackTrace().length);
+		final Function<String,Integer> function=LambdaUnchecker.uncheckedFunction((String value) -> {
+																					if(!value.matches("[0-9]+"))
+																						throw notANumber;
+																					return Integer.valueOf(value);
+																				});
+		Assertions.assertEquals(12,function.apply("12"));
+		Assertions.assertSame(notANumber,Assertions.assertThrows(ParseException.class,() -> function.apply("a")));
+		Assertions.assertSame(notANumber,Assertions.assertThrows(ParseException.class,() -> function.apply("b")));
+	}
 }
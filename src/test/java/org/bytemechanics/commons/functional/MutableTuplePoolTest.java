@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ *
+ * @author afarre
+ */
+public class MutableTuplePoolTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> MutableTuplePoolTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+		MutableTuplePool.clear();
+    }
+	@AfterEach
+    void afterEachTest() {
+		MutableTuplePool.clear();
+    }
+
+	@Test
+	@DisplayName("When a tuple is released then the next acquire returns the same instance reset")
+	public void testAcquireRelease(){
+		final MutableTuple<String,Integer> tuple=MutableTuplePool.acquire("key",1);
+		Assertions.assertEquals("key",tuple.left());
+		Assertions.assertEquals(1,tuple.right());
+		Assertions.assertEquals(0,MutableTuplePool.retained());
+		MutableTuplePool.release(tuple);
+		Assertions.assertEquals(1,MutableTuplePool.retained());
+		Assertions.assertNull(tuple.left());
+		Assertions.assertNull(tuple.right());
+		final MutableTuple<Integer,Integer> tuple2=MutableTuplePool.acquire();
+		Assertions.assertSame(tuple,tuple2);
+		Assertions.assertEquals(0,MutableTuplePool.retained());
+	}
+	@Test
+	@DisplayName("When more tuples than the maximum retained are released then only the maximum are retained")
+	public void testReleaseBounded(){
+		final List<MutableTuple<Integer,Integer>> tuples=IntStream.range(0, MutableTuplePool.DEFAULT_MAX_RETAINED*2)
+																	.mapToObj(i -> MutableTuplePool.acquire(i,i))
+																	.collect(Collectors.toList());
+		tuples.forEach(MutableTuplePool::release);
+		Assertions.assertEquals(MutableTuplePool.DEFAULT_MAX_RETAINED,MutableTuplePool.retained());
+	}
+	@Test
+	@DisplayName("When apply a function to a pooled tuple then the tuple is released after the function")
+	public void testApply(){
+		final AtomicReference<MutableTuple<String,Integer>> used=new AtomicReference<>();
+		final int result=MutableTuplePool.apply("abc",2,pair -> {
+															used.set(pair);
+															return pair.left().length()+pair.right();
+														});
+		Assertions.assertEquals(5,result);
+		Assertions.assertEquals(1,MutableTuplePool.retained());
+		Assertions.assertNull(used.get().left());
+		Assertions.assertSame(used.get(),MutableTuplePool.acquire());
+	}
+	@Test
+	@DisplayName("When use a reusing function in a stream then a single tuple is reused for all elements")
+	public void testReusing(){
+		final List<String> result=Stream.of("a","bb","ccc")
+										.map(MutableTuplePool.reusing(name -> name, String::length, pair -> pair.left()+":"+pair.right()))
+										.collect(Collectors.toList());
+		Assertions.assertEquals(Stream.of("a:1","bb:2","ccc:3").collect(Collectors.toList()),result);
+		Assertions.assertEquals(1,MutableTuplePool.retained());
+		Assertions.assertEquals(7,MutableTuplePool.<String,Integer,Integer>reusing(pair -> pair.left().length()+pair.right()).apply("abc",4));
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ *
+ * @author afarre
+ */
+public class MutableTupleTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> MutableTupleTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	
+	static Stream<Arguments> dataPack() {
+	    return Stream.of(
+			Arguments.of(2	,"left-value"),
+			Arguments.of("right-value",2.2d),
+			Arguments.of(null,"left-value-not-null"),
+			Arguments.of("right-value-not-null", null),
+			Arguments.of(null,null)
+		);
+	}
+
+	@ParameterizedTest(name = "When constructor is called with left={0} and right={1} then the same left and right is recovered")
+	@MethodSource("dataPack")
+	public void testConstructor(final Object _left,final Object _right){
+		final MutableTuple<Object,Object> tuple=MutableTuple.of(_left,_right);
+		Assertions.assertEquals(_left,tuple.left());
+		Assertions.assertEquals(_left,tuple.getLeft());
+		Assertions.assertEquals(_right,tuple.right());
+		Assertions.assertEquals(_right,tuple.getRight());
+	}
+	@ParameterizedTest(name = "When set left={0} and right={1} to an empty tuple then the same instance is returned with the new values")
+	@MethodSource("dataPack")
+	public void testSet(final Object _left,final Object _right){
+		final MutableTuple<Object,Object> tuple=new MutableTuple<>();
+		Assertions.assertSame(tuple,tuple.set(_left,_right));
+		Assertions.assertEquals(_left,tuple.left());
+		Assertions.assertEquals(_right,tuple.right());
+		Assertions.assertSame(tuple,tuple.setLeft(_right));
+		Assertions.assertSame(tuple,tuple.setRight(_left));
+		Assertions.assertEquals(_right,tuple.left());
+		Assertions.assertEquals(_left,tuple.right());
+	}
+	@ParameterizedTest(name = "When reset a tuple with left={0} and right={1} then both values are null")
+	@MethodSource("dataPack")
+	public void testReset(final Object _left,final Object _right){
+		final MutableTuple<Object,Object> tuple=MutableTuple.of(_left,_right);
+		Assertions.assertSame(tuple,tuple.reset());
+		Assertions.assertNull(tuple.left());
+		Assertions.assertNull(tuple.right());
+	}
+	@ParameterizedTest(name ="When two instances with the same left={0} and right={1} values are created then equals and hashcode must be the same than the immutable tuple")
+	@MethodSource("dataPack")
+	public void testEqualsHashCode(final Object _left,final Object _right){
+		final MutableTuple<Object,Object> tuple=MutableTuple.of(_left,_right);
+		final MutableTuple<Object,Object> tuple2=MutableTuple.of(_left,_right);
+		Assertions.assertEquals(tuple, tuple2);
+		Assertions.assertNotSame(tuple, tuple2);
+		Assertions.assertEquals(tuple.hashCode(), tuple2.hashCode());
+		Assertions.assertEquals(Tuple.of(_left,_right).hashCode(), tuple.hashCode());
+	}
+	@ParameterizedTest(name ="When convert to tuple a mutable tuple with left={0} and right={1} then an immutable tuple with the same values is returned")
+	@MethodSource("dataPack")
+	public void testToTuple(final Object _left,final Object _right){
+		final MutableTuple<Object,Object> tuple=MutableTuple.of(_left,_right);
+		final Tuple<Object,Object> snapshot=tuple.toTuple();
+		Assertions.assertEquals(Tuple.of(_left,_right), snapshot);
+		tuple.reset();
+		Assertions.assertEquals(_left,snapshot.left());
+		Assertions.assertEquals(_right,snapshot.right());
+	}
+	
+	@Test
+	public void testUpdate(){
+		final MutableTuple<String,Integer> tuple=MutableTuple.of("afg",2);
+		Assertions.assertSame(tuple,tuple.updateLeft(String::toUpperCase));
+		Assertions.assertSame(tuple,tuple.updateRight(value -> value*2));
+		Assertions.assertEquals(MutableTuple.of("AFG",4),tuple);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ *
+ * @author afarre
+ */
+public class QuadTest {
+
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> QuadTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+
+	static Stream<Arguments> dataPack() {
+	    return Stream.of(
+			Arguments.of(2, "second-value", 3.3d, 'd'),
+			Arguments.of("first-value", 2.2d, null, 4),
+			Arguments.of(null, "second-value-not-null", 'c', null),
+			Arguments.of(null, null, null, null)
+		);
+	}
+
+	@ParameterizedTest(name = "When constructor is called with first={0}, second={1}, third={2} and fourth={3} then the same values are recovered")
+	@MethodSource("dataPack")
+	public void testConstructor(final Object _first,final Object _second,final Object _third,final Object _fourth){
+		final Quad<Object,Object,Object,Object> quad=Quad.of(_first,_second,_third,_fourth);
+		Assertions.assertEquals(_first,quad.first());
+		Assertions.assertEquals(_first,quad.getFirst());
+		Assertions.assertEquals(_second,quad.second());
+		Assertions.assertEquals(_second,quad.getSecond());
+		Assertions.assertEquals(_third,quad.third());
+		Assertions.assertEquals(_third,quad.getThird());
+		Assertions.assertEquals(_fourth,quad.fourth());
+		Assertions.assertEquals(_fourth,quad.getFourth());
+	}
+	@ParameterizedTest(name ="When two instances with the same first={0}, second={1}, third={2} and fourth={3} values are created then equals and hashcode must be the same")
+	@MethodSource("dataPack")
+	public void testEqualsHashCode(final Object _first,final Object _second,final Object _third,final Object _fourth){
+		final Quad<Object,Object,Object,Object> quad=Quad.of(_first,_second,_third,_fourth);
+		final Quad<Object,Object,Object,Object> quad2=Quad.of(_first,_second,_third,_fourth);
+		Assertions.assertNotSame(quad, quad2);
+		Assertions.assertEquals(quad, quad2);
+		Assertions.assertEquals(quad.hashCode(), quad2.hashCode());
+		Assertions.assertNotEquals(quad, Quad.of(_first,_second,_third,"other"));
+	}
+	@ParameterizedTest(name ="When a quad with first={0}, second={1}, third={2} and fourth={3} values is hashed then is equals and has the same hashcode than the plain one")
+	@MethodSource("dataPack")
+	public void testHashed(final Object _first,final Object _second,final Object _third,final Object _fourth){
+		final Quad<Object,Object,Object,Object> quad=Quad.of(_first,_second,_third,_fourth);
+		final Quad<Object,Object,Object,Object> hashed=Quad.ofHashed(_first,_second,_third,_fourth);
+		Assertions.assertEquals(quad, hashed);
+		Assertions.assertEquals(hashed, quad);
+		Assertions.assertEquals(quad.hashCode(), hashed.hashCode());
+		Assertions.assertEquals(hashed, quad.hashed());
+		Assertions.assertSame(hashed, hashed.hashed());
+		final Map<Quad<Object,Object,Object,Object>,String> map=new HashMap<>();
+		map.put(hashed,"value");
+		Assertions.assertEquals("value",map.get(quad));
+	}
+	
+	@Test
+	public void testReplace(){
+		final Quad<String,Integer,Double,Long> quad=Quad.of("afg",2,1.5d,7l);
+		Assertions.assertEquals(Quad.of(3,2,1.5d,7l),quad.first(String::length));
+		Assertions.assertEquals(Quad.of("afg",2.0f,1.5d,7l),quad.second(Integer::floatValue));
+		Assertions.assertEquals(Quad.of("afg",2,"1.5",7l),quad.third(String::valueOf));
+		Assertions.assertEquals(Quad.of("afg",2,1.5d,7),quad.fourth(Long::intValue));
+		Assertions.assertEquals(Quad.of("new",2,1.5d,7l),quad.first("new"));
+		Assertions.assertEquals(Quad.of("afg","new",1.5d,7l),quad.second("new"));
+		Assertions.assertEquals(Quad.of("afg",2,"new",7l),quad.third("new"));
+		Assertions.assertEquals(Quad.of("afg",2,1.5d,"new"),quad.fourth("new"));
+		Assertions.assertEquals(Quad.of("afg",2,1.5d,7l),quad);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ *
+ * @author afarre
+ */
+public class ResultTest {
+
+
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> ResultTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+
+	@Test
+	@DisplayName("When a success result is created then the value is returned and no failure exist")
+	public void testSuccess(){
+		final Result<String> result=Result.success("value");
+		Assertions.assertTrue(result.isSuccess());
+		Assertions.assertFalse(result.isFailure());
+		Assertions.assertEquals("value",result.get());
+		Assertions.assertEquals(Optional.of("value"),result.toOptional());
+		Assertions.assertEquals(Optional.empty(),result.getFailure());
+		Assertions.assertEquals("value",result.orElse("other"));
+		Assertions.assertEquals("value",result.orElseGet(Exception::getMessage));
+		Assertions.assertEquals(Result.success("value"),result);
+		Assertions.assertEquals(Result.success("value").hashCode(),result.hashCode());
+		Assertions.assertTrue(Result.success(null).isSuccess());
+	}
+	@Test
+	@DisplayName("When a failure result is created then the failure is returned and get throws the original exception")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void testFailure(){
+		final ParseException exception=new ParseException("wrong",0);
+		final Result<String> result=Result.failure(exception);
+		Assertions.assertFalse(result.isSuccess());
+		Assertions.assertTrue(result.isFailure());
+		Assertions.assertSame(exception,Assertions.assertThrows(ParseException.class,() -> result.get()));
+		Assertions.assertEquals(Optional.empty(),result.toOptional());
+		Assertions.assertEquals(Optional.of(exception),result.getFailure());
+		Assertions.assertEquals("other",result.orElse("other"));
+		Assertions.assertEquals("wrong",result.orElseGet(Exception::getMessage));
+		Assertions.assertThrows(NullPointerException.class,() -> Result.failure(null));
+	}
+	@Test
+	@DisplayName("When a result is created from a supplier then the value or the exception is captured")
+	public void testOf(){
+		Assertions.assertEquals(Result.success(1l),Result.of(() -> new DecimalFormat("#0").parse("1")));
+		Assertions.assertEquals(ParseException.class,Result.of(() -> new DecimalFormat("#0").parse("a")).getFailure().map(Object::getClass).orElse(null));
+	}
+	@Test
+	@DisplayName("When map, flatMap or recover a result then only the corresponding path is executed")
+	public void testTransformations(){
+		final Result<String> success=Result.success("1");
+		final Result<String> failure=Result.failure(new ParseException("wrong",0));
+		Assertions.assertEquals(Result.success(1l),success.map(value -> new DecimalFormat("#0").parse(value)));
+		Assertions.assertSame(failure,failure.map(value -> new DecimalFormat("#0").parse(value)));
+		Assertions.assertTrue(Result.success("a").map(value -> new DecimalFormat("#0").parse(value)).isFailure());
+		Assertions.assertEquals(Result.success(2),success.flatMap(value -> Result.success(2)));
+		Assertions.assertSame(failure,failure.flatMap(value -> Result.success(2)));
+		Assertions.assertSame(success,success.recover(Exception::getMessage));
+		Assertions.assertEquals(Result.success("wrong"),failure.recover(Exception::getMessage));
+		final AtomicReference<Object> consumed=new AtomicReference<>();
+		success.ifFailure(consumed::set).ifSuccess(consumed::set);
+		Assertions.assertEquals("1",consumed.get());
+		failure.ifSuccess(consumed::set).ifFailure(consumed::set);
+		Assertions.assertEquals(failure.getFailure().get(),consumed.get());
+	}
+	@Test
+	@DisplayName("When a parallel stream maps with tryFunction then failures do not abort the stream and can be partitioned")
+	public void testTryFunctionParallel(){
+		final Map<Boolean,List<Result<Number>>> results=IntStream.range(0, 1000)
+																	.parallel()
+																	.mapToObj(i -> (i%10==0)? "a"+i : String.valueOf(i))
+																	.map(LambdaUnchecker.tryFunction((String value) -> new DecimalFormat("#0").parse(value)))
+																	.collect(Collectors.partitioningBy(Result::isSuccess));
+		Assertions.assertEquals(900,results.get(true).size());
+		Assertions.assertEquals(100,results.get(false).size());
+		Assertions.assertEquals(1l,LambdaUnchecker.tryApply((String value) -> new DecimalFormat("#0").parse(value),"1").get());
+		Assertions.assertEquals(Result.success(1l),LambdaUnchecker.trySupplier(() -> new DecimalFormat("#0").parse("1")).get());
+		Assertions.assertTrue(LambdaUnchecker.tryGet(() -> new DecimalFormat("#0").parse("a")).isFailure());
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ *
+ * @author afarre
+ */
+public class TripleTest {
+
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> TripleTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+
+	static Stream<Arguments> dataPack() {
+	    return Stream.of(
+			Arguments.of(2, "second-value", 3.3d),
+			Arguments.of("first-value", 2.2d, null),
+			Arguments.of(null, "second-value-not-null", 'c'),
+			Arguments.of(null, null, null)
+		);
+	}
+
+	@ParameterizedTest(name = "When constructor is called with first={0}, second={1} and third={2} then the same values are recovered")
+	@MethodSource("dataPack")
+	public void testConstructor(final Object _first,final Object _second,final Object _third){
+		final Triple<Object,Object,Object> triple=Triple.of(_first,_second,_third);
+		Assertions.assertEquals(_first,triple.first());
+		Assertions.assertEquals(_first,triple.getFirst());
+		Assertions.assertEquals(_second,triple.second());
+		Assertions.assertEquals(_second,triple.getSecond());
+		Assertions.assertEquals(_third,triple.third());
+		Assertions.assertEquals(_third,triple.getThird());
+	}
+	@ParameterizedTest(name ="When two instances with the same first={0}, second={1} and third={2} values are created then equals and hashcode must be the same")
+	@MethodSource("dataPack")
+	public void testEqualsHashCode(final Object _first,final Object _second,final Object _third){
+		final Triple<Object,Object,Object> triple=Triple.of(_first,_second,_third);
+		final Triple<Object,Object,Object> triple2=Triple.of(_first,_second,_third);
+		Assertions.assertNotSame(triple, triple2);
+		Assertions.assertEquals(triple, triple2);
+		Assertions.assertEquals(triple.hashCode(), triple2.hashCode());
+		Assertions.assertNotEquals(triple, Triple.of(_first,_second,"other"));
+	}
+	@ParameterizedTest(name ="When a triple with first={0}, second={1} and third={2} values is hashed then is equals and has the same hashcode than the plain one")
+	@MethodSource("dataPack")
+	public void testHashed(final Object _first,final Object _second,final Object _third){
+		final Triple<Object,Object,Object> triple=Triple.of(_first,_second,_third);
+		final Triple<Object,Object,Object> hashed=Triple.ofHashed(_first,_second,_third);
+		Assertions.assertEquals(triple, hashed);
+		Assertions.assertEquals(hashed, triple);
+		Assertions.assertEquals(triple.hashCode(), hashed.hashCode());
+		Assertions.assertEquals(hashed, triple.hashed());
+		Assertions.assertSame(hashed, hashed.hashed());
+		final Map<Triple<Object,Object,Object>,String> map=new HashMap<>();
+		map.put(hashed,"value");
+		Assertions.assertEquals("value",map.get(triple));
+	}
+	
+	@Test
+	public void testReplace(){
+		final Triple<String,Integer,Double> triple=Triple.of("afg",2,1.5d);
+		Assertions.assertEquals(Triple.of(3,2,1.5d),triple.first(String::length));
+		Assertions.assertEquals(Triple.of("afg",2.0f,1.5d),triple.second(Integer::floatValue));
+		Assertions.assertEquals(Triple.of("afg",2,"1.5"),triple.third(String::valueOf));
+		Assertions.assertEquals(Triple.of("new",2,1.5d),triple.first("new"));
+		Assertions.assertEquals(Triple.of("afg","new",1.5d),triple.second("new"));
+		Assertions.assertEquals(Triple.of("afg",2,"new"),triple.third("new"));
+		Assertions.assertEquals(Triple.of("afg",2,1.5d),triple);
+	}
+}
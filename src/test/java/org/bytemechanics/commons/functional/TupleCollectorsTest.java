@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.functional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ *
+ * @author afarre
+ */
+public class TupleCollectorsTest {
+
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> TupleCollectorsTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private static Stream<Tuple<String,Integer>> tuples(){
+		return IntStream.range(0, 1000)
+						.mapToObj(i -> Tuple.of("key"+(i%10), i));
+	}
+
+	@Test
+	@DisplayName("When collect unique tuples to map then left values are keys and right values are values")
+	public void testToMap(){
+		final Map<String,Integer> result=Stream.of(Tuple.of("a",1),Tuple.of("b",2),Tuple.of("c",(Integer)null))
+												.collect(TupleCollectors.toMap());
+		Assertions.assertEquals(3,result.size());
+		Assertions.assertEquals(1,result.get("a"));
+		Assertions.assertEquals(2,result.get("b"));
+		Assertions.assertTrue(result.containsKey("c"));
+		Assertions.assertNull(result.get("c"));
+		Assertions.assertEquals(IntStream.range(0, 1_000).boxed().collect(Collectors.toMap(i -> "key"+i, i -> i))
+								,IntStream.range(0, 1_000).parallel().mapToObj(i -> Tuple.of("key"+i,i)).collect(TupleCollectors.toMap()));
+	}
+	@Test
+	@DisplayName("When collect tuples with duplicated left values to map then an IllegalStateException is raised")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void testToMapDuplicated(){
+		Assertions.assertThrows(IllegalStateException.class
+								,() -> Stream.of(Tuple.of("a",1),Tuple.of("a",2))
+												.collect(TupleCollectors.toMap()));
+		Assertions.assertThrows(IllegalStateException.class
+								,() -> IntStream.range(0, 1_000).parallel().mapToObj(i -> Tuple.of((i==999)? "key0" : "key"+i,i)).collect(TupleCollectors.toMap()));
+	}
+	@Test
+	@DisplayName("When collect tuples to map with merger then right values of duplicated left values are merged")
+	public void testToMapMerger(){
+		final Map<String,Integer> expected=tuples().collect(Collectors.groupingBy(Tuple::left, Collectors.summingInt(Tuple::right)));
+		Assertions.assertEquals(expected,tuples().collect(TupleCollectors.toMap(Integer::sum)));
+		Assertions.assertEquals(expected,tuples().parallel().collect(TupleCollectors.toMap(Integer::sum)));
+	}
+	@Test
+	@DisplayName("When collect tuples with null right values to map with merger then null values are kept and merged")
+	public void testToMapMergerNull(){
+		final Map<String,Integer> result=Stream.of(Tuple.of("a",1),Tuple.of("b",(Integer)null),Tuple.of("c",(Integer)null),Tuple.of("c",3),Tuple.of("a",(Integer)null))
+												.collect(TupleCollectors.toMap((Integer previous,Integer next) -> (previous==null)? next : previous));
+		Assertions.assertEquals(3,result.size());
+		Assertions.assertEquals(1,result.get("a"));
+		Assertions.assertTrue(result.containsKey("b"));
+		Assertions.assertNull(result.get("b"));
+		Assertions.assertEquals(3,result.get("c"));
+		final Map<String,Integer> expected=IntStream.range(0, 1_000).boxed().collect(HashMap::new, (map,i) -> map.put("key"+i, (i%2==0)? null : i), HashMap::putAll);
+		Assertions.assertEquals(expected,IntStream.range(0, 1_000).parallel().mapToObj(i -> Tuple.of("key"+i,(i%2==0)? null : i)).collect(TupleCollectors.toMap(Integer::sum)));
+	}
+	@Test
+	@DisplayName("When collect tuples in parallel to concurrent map with merger then right values of duplicated left values are merged")
+	public void testToConcurrentMap(){
+		final Map<String,Integer> expected=tuples().collect(Collectors.groupingBy(Tuple::left, Collectors.summingInt(Tuple::right)));
+		final ConcurrentMap<String,Integer> result=tuples().parallel().collect(TupleCollectors.toConcurrentMap(Integer::sum));
+		Assertions.assertEquals(expected,result);
+	}
+	@Test
+	@DisplayName("When group tuples by left then right values are collected by left value")
+	public void testGroupingByLeft(){
+		final Map<String,List<Integer>> result=tuples().collect(TupleCollectors.groupingByLeft());
+		Assertions.assertEquals(10,result.size());
+		Assertions.assertEquals(IntStream.range(0, 100).map(i -> i*10+3).boxed().collect(Collectors.toList()),result.get("key3"));
+		Assertions.assertEquals(result,tuples().parallel().collect(TupleCollectors.groupingByLeft()));
+	}
+	@Test
+	@DisplayName("When group tuples by left with downstream then right values are reduced by left value")
+	public void testGroupingByLeftDownstream(){
+		final Map<String,Long> result=tuples().collect(TupleCollectors.groupingByLeft(Collectors.counting()));
+		Assertions.assertEquals(10,result.size());
+		result.values()
+				.forEach(count -> Assertions.assertEquals(100l,count));
+	}
+	@Test
+	@DisplayName("When group tuples by left concurrently then right values are reduced by left value")
+	public void testGroupingByLeftConcurrent(){
+		final Map<String,Integer> expected=tuples().collect(Collectors.groupingBy(Tuple::left, Collectors.summingInt(Tuple::right)));
+		Assertions.assertEquals(expected,tuples().parallel().collect(TupleCollectors.groupingByLeftConcurrent(Collectors.summingInt(value -> value))));
+		final ConcurrentMap<String,List<Integer>> result=tuples().parallel().collect(TupleCollectors.groupingByLeftConcurrent());
+		Assertions.assertEquals(10,result.size());
+		Assertions.assertEquals(100,result.get("key5").size());
+	}
+	@Test
+	@DisplayName("When partition tuples then right values are reduced by partition")
+	public void testPartitioningBy(){
+		final Map<Boolean,Long> result=tuples().parallel().collect(TupleCollectors.partitioningBy(tuple -> "key0".equals(tuple.left()), Collectors.counting()));
+		Assertions.assertEquals(100l,result.get(true));
+		Assertions.assertEquals(900l,result.get(false));
+	}
+	@Test
+	@DisplayName("When collect top right values then the greatest right values are returned in descending order")
+	public void testTopByRight(){
+		Assertions.assertEquals(Arrays.asList(Tuple.of("key9",999),Tuple.of("key8",998),Tuple.of("key7",997))
+								,tuples().collect(TupleCollectors.topByRight(3)));
+		Assertions.assertEquals(Arrays.asList(Tuple.of("key9",999),Tuple.of("key8",998),Tuple.of("key7",997))
+								,tuples().parallel().collect(TupleCollectors.topByRight(3)));
+		Assertions.assertEquals(Arrays.asList(Tuple.of("key0",0),Tuple.of("key1",1))
+								,tuples().parallel().collect(TupleCollectors.topByRight(2,Collections.reverseOrder())));
+		Assertions.assertEquals(Collections.emptyList(),tuples().collect(TupleCollectors.topByRight(0)));
+		Assertions.assertEquals(1000,tuples().collect(TupleCollectors.topByRight(5000)).size());
+	}
+}
@@ -18,6 +18,8 @@ package org.bytemechanics.commons.functional;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -93,6 +95,21 @@ public class TupleTest {
 		Assertions.assertNotSame(tuple, tuple2);
 	}
 
+	@ParameterizedTest(name ="When a tuple with left={0} and right={1} values is hashed then is equals and has the same hashcode than the plain one")
+	@MethodSource("dataPack")
+	public void testHashed(final Object _left,final Object _right){
+		final Tuple<Object,Object> tuple=Tuple.of(_left,_right);
+		final Tuple<Object,Object> hashed=Tuple.ofHashed(_left,_right);
+		Assertions.assertEquals(tuple, hashed);
+		Assertions.assertEquals(hashed, tuple);
+		Assertions.assertEquals(tuple.hashCode(), hashed.hashCode());
+		Assertions.assertEquals(hashed, tuple.hashed());
+		Assertions.assertSame(hashed, hashed.hashed());
+		final Map<Tuple<Object,Object>,String> map=new HashMap<>();
+		map.put(hashed,"value");
+		Assertions.assertEquals("value",map.get(tuple));
+	}
+
 	static Stream<Arguments> replaceLeftDatapack() {
 	    return Stream.of(
 			Arguments.of(2, 3,"left-value"),
@@ -16,15 +16,33 @@
 package org.bytemechanics.commons.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 import org.bytemechanics.commons.functional.LambdaUnchecker;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -32,6 +50,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 /**
  *
@@ -244,4 +265,981 @@ public class MemorySeekableByteChannelTest {
         }
     }
 
+    private static byte[] payload(final int _length) {
+        final byte[] reply = new byte[_length];
+        for (int ic1 = 0; ic1 < _length; ic1++) {
+            reply[ic1] = (byte) (ic1 % 251);
+        }
+        return reply;
+    }
+
+    /**
+     * Test of random access over several chunks, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When seek randomly over a multi-chunk channel then reads return the data at the requested position")
+    public void testRandomAccessMultiChunk() throws Exception {
+        final byte[] data = payload(10_000);
+        try ( InputStream inputData = new ByteArrayInputStream(data)) {
+            MemorySeekableByteChannel instance = new MemorySeekableByteChannel(inputData);
+            Assertions.assertEquals(data.length, instance.size());
+            for (int from : new int[]{9_000, 2047, 2048, 0, 4095, 6_000, 9_999, 1}) {
+                final ByteBuffer buffer = ByteBuffer.allocate(3_000);
+                instance.position(from);
+                final int read = instance.read(buffer);
+                Assertions.assertEquals(Math.min(3_000, data.length - from), read);
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, from, from + read), Arrays.copyOf(buffer.array(), read));
+                Assertions.assertEquals(from + read, instance.position());
+            }
+            instance.close();
+        }
+    }
+
+    /**
+     * Test of write beyond the end of the channel, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When write beyond the end then the gap is filled with zeros and size grows")
+    public void testWriteBeyondEnd() throws Exception {
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel()) {
+            instance.position(5_000);
+            Assertions.assertEquals(DATA1.length, instance.write(ByteBuffer.wrap(DATA1)));
+            Assertions.assertEquals(5_000 + DATA1.length, instance.size());
+            final ByteBuffer buffer = ByteBuffer.allocate(5_000 + DATA1.length);
+            instance.position(0);
+            Assertions.assertEquals(5_000 + DATA1.length, instance.read(buffer));
+            Assertions.assertArrayEquals(new byte[5_000], Arrays.copyOf(buffer.array(), 5_000));
+            Assertions.assertArrayEquals(DATA1, Arrays.copyOfRange(buffer.array(), 5_000, 5_000 + DATA1.length));
+        }
+    }
+
+    /**
+     * Test of truncate and grow again, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When truncate inside a chunk and grow again then the truncated region reads as zeros")
+    public void testTruncateAndGrow() throws Exception {
+        final byte[] data = payload(5_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(new ByteArrayInputStream(data))) {
+            instance.truncate(3_000);
+            Assertions.assertEquals(3_000, instance.size());
+            instance.position(4_500);
+            instance.write(ByteBuffer.wrap(new byte[]{1}));
+            Assertions.assertEquals(4_501, instance.size());
+            final ByteBuffer buffer = ByteBuffer.allocate(4_501);
+            instance.position(0);
+            Assertions.assertEquals(4_501, instance.read(buffer));
+            Assertions.assertArrayEquals(Arrays.copyOf(data, 3_000), Arrays.copyOf(buffer.array(), 3_000));
+            Assertions.assertArrayEquals(new byte[1_500], Arrays.copyOfRange(buffer.array(), 3_000, 4_500));
+            Assertions.assertEquals(1, buffer.array()[4_500]);
+        }
+    }
+
+    /**
+     * Test of copy method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When copy from heap, direct and offset buffers then bytes land at the destiny offset and source advances")
+    public void testCopy() {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(DATA1.length);
+        direct.put(DATA1);
+        direct.flip();
+        final ByteBuffer sliced = ByteBuffer.wrap(DATA1, 5, 10).slice();
+        for (ByteBuffer source : new ByteBuffer[]{ByteBuffer.wrap(DATA1), direct, sliced}) {
+            final int expectedLength = Math.min(source.remaining(), 7);
+            final int from = source.position();
+            final byte[] expected = new byte[20];
+            source.duplicate().get(expected, 3, expectedLength);
+            final byte[] destiny = new byte[20];
+            Assertions.assertEquals(expectedLength, MemorySeekableByteChannel.copy(source, destiny, 3, 3 + expectedLength));
+            Assertions.assertEquals(from + expectedLength, source.position());
+            Assertions.assertArrayEquals(expected, destiny);
+        }
+    }
+
+    /**
+     * Test of write method from direct buffers, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When write a direct buffer across chunk boundaries then content is preserved")
+    public void testWriteDirect() throws Exception {
+        final byte[] data = payload(7_000);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.flip();
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel()) {
+            instance.position(1_000);
+            Assertions.assertEquals(data.length, instance.write(direct));
+            Assertions.assertFalse(direct.hasRemaining());
+            final ByteBuffer buffer = ByteBuffer.allocate(data.length);
+            instance.position(1_000);
+            Assertions.assertEquals(data.length, instance.read(buffer));
+            Assertions.assertArrayEquals(data, buffer.array());
+        }
+    }
+
+    static Stream<Arguments> chunkSizesDatapack() {
+        return Stream.of(
+                Arguments.of(16, 16),
+                Arguments.of(16, 64),
+                Arguments.of(64, 4096),
+                Arguments.of(2048, 2048),
+                Arguments.of(MemorySeekableByteChannel.DEFAULT_MIN_CHUNK_SIZE, MemorySeekableByteChannel.DEFAULT_MAX_CHUNK_SIZE)
+        );
+    }
+
+    /**
+     * Test of configurable chunk sizes, of class MemorySeekableByteChannel.
+     */
+    @ParameterizedTest(name = "When chunks from {0} to {1} bytes are used then random access reads and writes are preserved")
+    @MethodSource("chunkSizesDatapack")
+    public void testChunkSizes(final int _minChunkSize, final int _maxChunkSize) throws Exception {
+        final byte[] data = payload(20_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(_minChunkSize, _maxChunkSize)) {
+            for (int from = 0; from < data.length; from += 1_234) {
+                instance.position(from);
+                instance.write(ByteBuffer.wrap(data, from, Math.min(1_234, data.length - from)));
+            }
+            Assertions.assertEquals(data.length, instance.size());
+            for (int from : new int[]{19_999, 0, 15, 16, 17, 47, 48, 112, 4_095, 4_096, 10_000}) {
+                final ByteBuffer buffer = ByteBuffer.allocate(5_000);
+                instance.position(from);
+                final int read = instance.read(buffer);
+                Assertions.assertEquals(Math.min(5_000, data.length - from), read);
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, from, from + read), Arrays.copyOf(buffer.array(), read));
+            }
+            instance.truncate(100);
+            instance.position(10_000);
+            instance.write(ByteBuffer.wrap(new byte[]{1}));
+            final ByteBuffer buffer = ByteBuffer.allocate(10_001);
+            instance.position(0);
+            Assertions.assertEquals(10_001, instance.read(buffer));
+            Assertions.assertArrayEquals(Arrays.copyOf(data, 100), Arrays.copyOf(buffer.array(), 100));
+            Assertions.assertArrayEquals(new byte[9_900], Arrays.copyOfRange(buffer.array(), 100, 10_000));
+        }
+    }
+
+    static Stream<Arguments> invalidChunkSizesDatapack() {
+        return Stream.of(
+                Arguments.of(8, 2048),
+                Arguments.of(3000, 4096),
+                Arguments.of(4096, 2048),
+                Arguments.of(2048, 3000),
+                Arguments.of(2048, Integer.MIN_VALUE)
+        );
+    }
+
+    /**
+     * Test of invalid chunk sizes, of class MemorySeekableByteChannel.
+     */
+    @ParameterizedTest(name = "When chunks from {0} to {1} bytes are configured then IllegalArgumentException is raised")
+    @MethodSource("invalidChunkSizesDatapack")
+    public void testInvalidChunkSizes(final int _minChunkSize, final int _maxChunkSize) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel(_minChunkSize, _maxChunkSize));
+    }
+
+    /**
+     * Test of size hint constructor, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When a size hint is provided then the channel is usable beyond the hint and negative hints are rejected")
+    public void testSizeHint() throws Exception {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel(-1l));
+        final byte[] data = payload(3_000);
+        for (long hint : new long[]{0l, 10l, 100l, 3_000l, 1l << 30}) {
+            try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(hint)) {
+                Assertions.assertEquals(data.length, instance.write(ByteBuffer.wrap(data)));
+                final ByteBuffer buffer = ByteBuffer.allocate(data.length);
+                instance.position(0);
+                Assertions.assertEquals(data.length, instance.read(buffer));
+                Assertions.assertArrayEquals(data, buffer.array());
+            }
+        }
+    }
+
+    static Stream<Arguments> allocatorsDatapack() {
+        return Stream.of(
+                Arguments.of(MemorySeekableByteChannel.ChunkAllocator.HEAP),
+                Arguments.of(MemorySeekableByteChannel.ChunkAllocator.DIRECT)
+        );
+    }
+
+    /**
+     * Test of chunk allocators, of class MemorySeekableByteChannel.
+     */
+    @ParameterizedTest(name = "When chunks are provided by {0} then random access reads, writes and truncates are preserved")
+    @MethodSource("allocatorsDatapack")
+    public void testAllocators(final MemorySeekableByteChannel.ChunkAllocator _allocator) throws Exception {
+        final byte[] data = payload(20_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096, _allocator)) {
+            final ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            direct.put(data);
+            direct.flip();
+            Assertions.assertEquals(data.length, instance.write(direct));
+            for (int from : new int[]{19_999, 0, 63, 64, 191, 192, 4_000, 10_000}) {
+                final ByteBuffer buffer = (from % 2 == 0) ? ByteBuffer.allocate(5_000) : ByteBuffer.allocateDirect(5_000);
+                instance.position(from);
+                final int read = instance.read(buffer);
+                Assertions.assertEquals(Math.min(5_000, data.length - from), read);
+                final byte[] actual = new byte[read];
+                buffer.flip();
+                buffer.get(actual);
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, from, from + read), actual);
+            }
+            instance.truncate(100);
+            instance.position(200);
+            instance.write(ByteBuffer.wrap(new byte[]{1}));
+            final ByteBuffer buffer = ByteBuffer.allocate(201);
+            instance.position(0);
+            Assertions.assertEquals(201, instance.read(buffer));
+            Assertions.assertArrayEquals(Arrays.copyOf(data, 100), Arrays.copyOf(buffer.array(), 100));
+            Assertions.assertArrayEquals(new byte[100], Arrays.copyOfRange(buffer.array(), 100, 200));
+        }
+    }
+
+    /**
+     * Test of chunk release, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When truncate or close then the discarded chunks are released to the allocator")
+    public void testAllocatorRelease() throws Exception {
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        final List<ByteBuffer> released = new ArrayList<>();
+        final MemorySeekableByteChannel.ChunkAllocator allocator = new MemorySeekableByteChannel.ChunkAllocator() {
+            @Override
+            public ByteBuffer allocate(final int _size) {
+                final ByteBuffer reply = MemorySeekableByteChannel.ChunkAllocator.DIRECT.allocate(_size);
+                allocated.add(reply);
+                return reply;
+            }
+            @Override
+            public void release(final ByteBuffer _chunk) {
+                released.add(_chunk);
+                MemorySeekableByteChannel.ChunkAllocator.DIRECT.release(_chunk);
+            }
+        };
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 16, allocator);
+        instance.write(ByteBuffer.wrap(payload(100)));
+        Assertions.assertEquals(7, allocated.size());
+        instance.truncate(33);
+        Assertions.assertEquals(4, released.size());
+        for (int ic1 = 3; ic1 < 7; ic1++) {
+            Assertions.assertSame(allocated.get(ic1), released.get(6 - ic1));
+        }
+        instance.close();
+        instance.close();
+        Assertions.assertEquals(7, released.size());
+        for (int ic1 = 0; ic1 < 3; ic1++) {
+            Assertions.assertSame(allocated.get(ic1), released.get(4 + ic1));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel(16, 16, null));
+    }
+
+    /**
+     * Test of positional read and write methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When read or write at a given position then the channel position is not modified")
+    public void testPositionalReadWrite() throws Exception {
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 64);
+        instance.position(3);
+        Assertions.assertEquals(DATA1.length, instance.write(ByteBuffer.wrap(DATA1), 100));
+        Assertions.assertEquals(3l, instance.position());
+        Assertions.assertEquals(100 + DATA1.length, instance.size());
+        Assertions.assertEquals(4, instance.write(ByteBuffer.wrap(DATA2, 0, 4), 50));
+        Assertions.assertEquals(100 + DATA1.length, instance.size());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(DATA1.length);
+        Assertions.assertEquals(DATA1.length, instance.read(buffer, 100));
+        Assertions.assertArrayEquals(DATA1, buffer.array());
+        final ByteBuffer gap = ByteBuffer.allocate(10);
+        Assertions.assertEquals(10, instance.read(gap, 45));
+        Assertions.assertArrayEquals(new byte[]{0, 0, 0, 0, 0, DATA2[0], DATA2[1], DATA2[2], DATA2[3], 0}, gap.array());
+        Assertions.assertEquals(3l, instance.position());
+        Assertions.assertEquals(-1, instance.read(ByteBuffer.allocate(10), 100 + DATA1.length));
+        Assertions.assertEquals(-1, instance.read(ByteBuffer.allocate(10), 1_000));
+        Assertions.assertEquals(0, instance.read(ByteBuffer.allocate(0), 10));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instance.read(ByteBuffer.allocate(10), -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instance.write(ByteBuffer.allocate(10), -1));
+        instance.close();
+        Assertions.assertThrows(ClosedChannelException.class, () -> instance.read(ByteBuffer.allocate(10), 0));
+        Assertions.assertThrows(ClosedChannelException.class, () -> instance.write(ByteBuffer.allocate(10), 0));
+    }
+
+    /**
+     * Test of empty write methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When an empty buffer is written beyond the end then the channel does not grow")
+    public void testEmptyWriteBeyondEnd() throws Exception {
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 64, _size -> {
+            final ByteBuffer reply = ByteBuffer.allocate(_size);
+            allocated.add(reply);
+            return reply;
+        })) {
+            Assertions.assertEquals(0, instance.write(ByteBuffer.allocate(0), 1_000));
+            Assertions.assertEquals(0l, instance.size());
+            instance.position(5_000);
+            Assertions.assertEquals(0, instance.write(ByteBuffer.allocate(0)));
+            Assertions.assertEquals(0l, instance.size());
+            Assertions.assertEquals(5_000l, instance.position());
+            Assertions.assertEquals(0, allocated.size());
+            Assertions.assertEquals(DATA1.length, instance.write(ByteBuffer.wrap(DATA1), 0));
+            Assertions.assertEquals(0, instance.write(ByteBuffer.allocate(0), DATA1.length + 100));
+            Assertions.assertEquals(DATA1.length, instance.size());
+        }
+    }
+
+    /**
+     * Test of empty gathering write method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When only empty buffers are gathered beyond the end then the channel does not grow nor allocate")
+    public void testEmptyGatheringWriteBeyondEnd() throws Exception {
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 64, _size -> {
+            final ByteBuffer reply = ByteBuffer.allocate(_size);
+            allocated.add(reply);
+            return reply;
+        })) {
+            instance.position(5_000);
+            Assertions.assertEquals(0l, instance.write(new ByteBuffer[]{ByteBuffer.allocate(0), ByteBuffer.allocate(0)}));
+            Assertions.assertEquals(0l, instance.write(new ByteBuffer[]{ByteBuffer.wrap(DATA1)}, 0, 0));
+            Assertions.assertEquals(0l, instance.size());
+            Assertions.assertEquals(5_000l, instance.position());
+            Assertions.assertEquals(0, allocated.size());
+        }
+    }
+
+    /**
+     * Test of concurrent positional read and write methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When many threads read and write disjoint regions at given positions then all data is preserved")
+    public void testConcurrentPositionalReadWrite() throws Exception {
+        final int regions = 64;
+        final int regionSize = 1_000;
+        final byte[] data = payload(regions * regionSize);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096)) {
+            final List<Future<Integer>> writes = new ArrayList<>();
+            for (int ic1 = regions - 1; ic1 >= 0; ic1--) {
+                final int region = ic1;
+                writes.add(executor.submit(() -> instance.write(ByteBuffer.wrap(data, region * regionSize, regionSize), region * regionSize)));
+            }
+            for (Future<Integer> write : writes) {
+                Assertions.assertEquals(regionSize, write.get());
+            }
+            Assertions.assertEquals(data.length, instance.size());
+            Assertions.assertEquals(0l, instance.position());
+            final List<Future<byte[]>> reads = new ArrayList<>();
+            for (int ic1 = 0; ic1 < regions; ic1++) {
+                final int region = ic1;
+                reads.add(executor.submit(() -> {
+                    final ByteBuffer buffer = ByteBuffer.allocate(regionSize);
+                    instance.read(buffer, region * regionSize);
+                    return buffer.array();
+                }));
+            }
+            for (int ic1 = 0; ic1 < regions; ic1++) {
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, ic1 * regionSize, (ic1 + 1) * regionSize), reads.get(ic1).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long spillFiles() throws IOException {
+        try ( Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(name -> name.startsWith("memory-channel") && name.endsWith(".spill"))
+                    .count();
+        }
+    }
+
+    /**
+     * Test of spill to memory mapped file, of class MemorySeekableByteChannel.
+     */
+    @ParameterizedTest(name = "When a channel with chunks provided by {0} grows beyond the spill threshold then the content is moved to a mapped file deleted on close")
+    @MethodSource("allocatorsDatapack")
+    public void testSpill(final MemorySeekableByteChannel.ChunkAllocator _allocator) throws Exception {
+        final byte[] data = payload(20_000);
+        final long spillFiles = spillFiles();
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096, _allocator, 5_000);
+        instance.write(ByteBuffer.wrap(data, 0, 5_000));
+        Assertions.assertFalse(instance.isSpilled());
+        Assertions.assertEquals(spillFiles, spillFiles());
+        instance.write(ByteBuffer.wrap(data, 5_000, 15_000));
+        Assertions.assertTrue(instance.isSpilled());
+        Assertions.assertEquals(spillFiles + 1, spillFiles());
+        Assertions.assertEquals(data.length, instance.size());
+        final ByteBuffer buffer = ByteBuffer.allocate(data.length);
+        Assertions.assertEquals(data.length, instance.read(buffer, 0));
+        Assertions.assertArrayEquals(data, buffer.array());
+
+        instance.truncate(3_000);
+        instance.write(ByteBuffer.wrap(new byte[]{1}), 30_000);
+        final ByteBuffer truncated = ByteBuffer.allocate(30_001);
+        Assertions.assertEquals(30_001, instance.read(truncated, 0));
+        Assertions.assertArrayEquals(Arrays.copyOf(data, 3_000), Arrays.copyOf(truncated.array(), 3_000));
+        Assertions.assertArrayEquals(new byte[27_000], Arrays.copyOfRange(truncated.array(), 3_000, 30_000));
+        Assertions.assertEquals(1, truncated.array()[30_000]);
+
+        instance.close();
+        Assertions.assertFalse(instance.isOpen());
+        Assertions.assertEquals(spillFiles, spillFiles());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel(64, 4096, _allocator, -1));
+    }
+
+    /**
+     * Test of gathering write and scattering read methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When write and read several buffers at once then the content is concatenated and split in order")
+    public void testScatterGather() throws Exception {
+        final byte[] header = "header".getBytes(Charset.defaultCharset());
+        final byte[] body = payload(5_000);
+        final byte[] trailer = "trailer".getBytes(Charset.defaultCharset());
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 1024)) {
+            final ByteBuffer directBody = ByteBuffer.allocateDirect(body.length);
+            directBody.put(body);
+            directBody.flip();
+            final ByteBuffer[] sources = new ByteBuffer[]{ByteBuffer.wrap(DATA1), ByteBuffer.wrap(header), directBody, ByteBuffer.wrap(trailer)};
+            Assertions.assertEquals(header.length + body.length + trailer.length, instance.write(sources, 1, 3));
+            Assertions.assertEquals(DATA1.length, sources[0].remaining());
+            Assertions.assertFalse(sources[2].hasRemaining());
+            Assertions.assertEquals(header.length + body.length + trailer.length, instance.position());
+            Assertions.assertEquals(DATA1.length, instance.write(new ByteBuffer[]{sources[0]}));
+            Assertions.assertEquals(header.length + body.length + trailer.length + DATA1.length, instance.size());
+
+            instance.position(0);
+            final ByteBuffer[] destinies = new ByteBuffer[]{ByteBuffer.allocate(header.length), ByteBuffer.allocateDirect(body.length), ByteBuffer.allocate(trailer.length), ByteBuffer.allocate(DATA1.length + 10)};
+            Assertions.assertEquals(instance.size(), instance.read(destinies));
+            Assertions.assertArrayEquals(header, destinies[0].array());
+            final byte[] actualBody = new byte[body.length];
+            destinies[1].flip();
+            destinies[1].get(actualBody);
+            Assertions.assertArrayEquals(body, actualBody);
+            Assertions.assertArrayEquals(trailer, destinies[2].array());
+            Assertions.assertEquals(DATA1.length, destinies[3].position());
+            Assertions.assertEquals(0l, instance.read(new ByteBuffer[]{ByteBuffer.allocate(10)}));
+
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> instance.write(sources, 3, 2));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> instance.read(destinies, -1, 2));
+            instance.close();
+            Assertions.assertThrows(ClosedChannelException.class, () -> instance.write(sources));
+            Assertions.assertThrows(ClosedChannelException.class, () -> instance.read(destinies));
+        }
+    }
+
+    /**
+     * Test of transferTo methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When transfer to file and stream channels then the content is written from the chunks")
+    public void testTransferTo() throws Exception {
+        final byte[] data = payload(20_000);
+        final Path file = Files.createTempFile("memory-channel-test", ".bin");
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096)) {
+            instance.write(ByteBuffer.wrap(data));
+            instance.position(100);
+            try ( FileChannel target = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                Assertions.assertEquals(data.length - 100, instance.transferTo(target));
+            }
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, data.length), Files.readAllBytes(file));
+            Assertions.assertEquals(data.length, instance.position());
+            Assertions.assertEquals(0l, instance.transferTo(Channels.newChannel(new ByteArrayOutputStream())));
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            Assertions.assertEquals(5_000l, instance.transferTo(63, 5_000, Channels.newChannel(output)));
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 63, 5_063), output.toByteArray());
+            Assertions.assertEquals(data.length, instance.position());
+            output.reset();
+            Assertions.assertEquals(10l, instance.transferTo(data.length - 10, 5_000, Channels.newChannel(output)));
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, data.length - 10, data.length), output.toByteArray());
+            Assertions.assertEquals(0l, instance.transferTo(data.length, 5_000, Channels.newChannel(output)));
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> instance.transferTo(-1, 10, Channels.newChannel(output)));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> instance.transferTo(instance));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test of transferFrom methods, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When transfer from file and stream channels then the content is read into the chunks")
+    public void testTransferFrom() throws Exception {
+        final byte[] data = payload(20_000);
+        final Path file = Files.createTempFile("memory-channel-test", ".bin");
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096)) {
+            Files.write(file, data);
+            instance.position(10);
+            try ( FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+                Assertions.assertEquals(data.length, instance.transferFrom(source));
+            }
+            Assertions.assertEquals(data.length + 10, instance.size());
+            Assertions.assertEquals(data.length + 10, instance.position());
+            final ByteBuffer buffer = ByteBuffer.allocate(data.length + 10);
+            instance.read(buffer, 0);
+            Assertions.assertArrayEquals(new byte[10], Arrays.copyOf(buffer.array(), 10));
+            Assertions.assertArrayEquals(data, Arrays.copyOfRange(buffer.array(), 10, data.length + 10));
+
+            Assertions.assertEquals(7_000l, instance.transferFrom(Channels.newChannel(new ByteArrayInputStream(data)), 1_000, 7_000));
+            Assertions.assertEquals(data.length + 10, instance.position());
+            final ByteBuffer overwritten = ByteBuffer.allocate(7_000);
+            instance.read(overwritten, 1_000);
+            Assertions.assertArrayEquals(Arrays.copyOf(data, 7_000), overwritten.array());
+
+            Assertions.assertEquals(DATA1.length, instance.transferFrom(Channels.newChannel(new ByteArrayInputStream(DATA1)), 30_000, 1_000));
+            Assertions.assertEquals(30_000 + DATA1.length, instance.size());
+            Assertions.assertEquals(0l, instance.transferFrom(Channels.newChannel(new ByteArrayInputStream(new byte[0])), 50_000, 1_000));
+            Assertions.assertEquals(30_000 + DATA1.length, instance.size());
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> instance.transferFrom(Channels.newChannel(new ByteArrayInputStream(DATA1)), 0, -1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> instance.transferFrom(instance));
+            instance.close();
+            Assertions.assertThrows(ClosedChannelException.class, () -> instance.transferFrom(Channels.newChannel(new ByteArrayInputStream(DATA1))));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static byte[] readAll(final MemorySeekableByteChannel _channel) throws IOException {
+        final ByteBuffer reply = ByteBuffer.allocate((int) _channel.size());
+        _channel.read(reply, 0);
+        return reply.array();
+    }
+
+    static Stream<Arguments> ingestionDatapack() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(10_000, 10_000),
+                Arguments.of(10_000, 5_000),
+                Arguments.of(10_000, 20_000),
+                Arguments.of(4_096, 4_096),
+                Arguments.of(4_096, 4_095),
+                Arguments.of(3_000_000, 3_000_000)
+        );
+    }
+
+    /**
+     * Test of known length input stream constructor, of class MemorySeekableByteChannel.
+     */
+    @ParameterizedTest(name = "When ingest a stream of {0} bytes with expected length {1} then all the content is stored")
+    @MethodSource("ingestionDatapack")
+    public void testInputStreamKnownLength(final int _size, final int _length) throws Exception {
+        final byte[] data = payload(_size);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(new ByteArrayInputStream(data), _length)) {
+            Assertions.assertEquals(_size, instance.size());
+            Assertions.assertEquals(0l, instance.position());
+            Assertions.assertArrayEquals(data, readAll(instance));
+        }
+    }
+
+    /**
+     * Test of input stream constructor with short reads, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When ingest a stream that returns short reads then all the content is stored")
+    public void testInputStreamShortReads() throws Exception {
+        final byte[] data = payload(10_000);
+        final InputStream shortReads = new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(final byte[] _buffer, final int _offset, final int _length) {
+                return super.read(_buffer, _offset, Math.min(_length, 7));
+            }
+        };
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(shortReads)) {
+            Assertions.assertEquals(data.length, instance.size());
+            Assertions.assertArrayEquals(data, readAll(instance));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel(new ByteArrayInputStream(data), -1));
+    }
+
+    /**
+     * Test of readable channel constructor, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When ingest a file or stream channel then the remaining content is stored and the source is closed")
+    public void testReadableChannel() throws Exception {
+        final byte[] data = payload(30_000);
+        final Path file = Files.createTempFile("memory-channel-test", ".bin");
+        try {
+            Files.write(file, data);
+            final FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+            source.position(1_000);
+            try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(source)) {
+                Assertions.assertFalse(source.isOpen());
+                Assertions.assertEquals(0l, instance.position());
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1_000, data.length), readAll(instance));
+            }
+            try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(Channels.newChannel(new ByteArrayInputStream(data)))) {
+                Assertions.assertArrayEquals(data, readAll(instance));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test of duplicate method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When duplicate then both channels share the content with own position and writes are not visible to the other")
+    public void testDuplicate() throws Exception {
+        final byte[] data = payload(10_000);
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096);
+        instance.write(ByteBuffer.wrap(data));
+        instance.position(500);
+        final MemorySeekableByteChannel duplicate = instance.duplicate();
+        Assertions.assertFalse(duplicate.isReadOnly());
+        Assertions.assertEquals(500l, duplicate.position());
+        Assertions.assertEquals(data.length, duplicate.size());
+        Assertions.assertArrayEquals(data, readAll(duplicate));
+
+        duplicate.position(0);
+        instance.write(ByteBuffer.wrap(DATA1), 100);
+        duplicate.write(ByteBuffer.wrap(DATA2), 9_990);
+        Assertions.assertEquals(500l, instance.position());
+        Assertions.assertEquals(0l, duplicate.position());
+        Assertions.assertEquals(data.length, instance.size());
+        Assertions.assertEquals(9_990 + DATA2.length, duplicate.size());
+        final byte[] expectedInstance = Arrays.copyOf(data, data.length);
+        System.arraycopy(DATA1, 0, expectedInstance, 100, DATA1.length);
+        Assertions.assertArrayEquals(expectedInstance, readAll(instance));
+        final byte[] expectedDuplicate = Arrays.copyOf(data, 9_990 + DATA2.length);
+        System.arraycopy(DATA2, 0, expectedDuplicate, 9_990, DATA2.length);
+        Assertions.assertArrayEquals(expectedDuplicate, readAll(duplicate));
+
+        duplicate.truncate(50);
+        Assertions.assertEquals(data.length, instance.size());
+        Assertions.assertArrayEquals(expectedInstance, readAll(instance));
+        instance.close();
+        Assertions.assertTrue(duplicate.isOpen());
+        Assertions.assertArrayEquals(Arrays.copyOf(data, 50), readAll(duplicate));
+        duplicate.close();
+        Assertions.assertThrows(ClosedChannelException.class, () -> duplicate.duplicate());
+    }
+
+    /**
+     * Test of asReadOnly method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When create a read-only view then reads are allowed and any write raises NonWritableChannelException")
+    public void testAsReadOnly() throws Exception {
+        final byte[] data = payload(5_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(new ByteArrayInputStream(data));  MemorySeekableByteChannel readOnly = instance.asReadOnly()) {
+            Assertions.assertTrue(readOnly.isReadOnly());
+            Assertions.assertFalse(instance.isReadOnly());
+            Assertions.assertArrayEquals(data, readAll(readOnly));
+            final ByteBuffer buffer = ByteBuffer.allocate(100);
+            readOnly.position(4_950);
+            Assertions.assertEquals(50, readOnly.read(buffer));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> readOnly.write(ByteBuffer.wrap(DATA1)));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> readOnly.write(ByteBuffer.wrap(DATA1), 0));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> readOnly.write(new ByteBuffer[]{ByteBuffer.wrap(DATA1)}));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> readOnly.truncate(0));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> readOnly.transferFrom(Channels.newChannel(new ByteArrayInputStream(DATA1))));
+            Assertions.assertTrue(readOnly.duplicate().isReadOnly());
+            instance.write(ByteBuffer.wrap(DATA1), 0);
+            Assertions.assertArrayEquals(data, readAll(readOnly));
+        }
+    }
+
+    /**
+     * Test of slice method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When slice then a read-only view of the region is returned with position 0")
+    public void testSlice() throws Exception {
+        final byte[] data = payload(20_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096)) {
+            instance.write(ByteBuffer.wrap(data));
+            try ( MemorySeekableByteChannel slice = instance.slice(1_000, 8_000)) {
+                Assertions.assertTrue(slice.isReadOnly());
+                Assertions.assertEquals(0l, slice.position());
+                Assertions.assertEquals(8_000l, slice.size());
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1_000, 9_000), readAll(slice));
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                slice.position(7_990);
+                Assertions.assertEquals(10l, slice.transferTo(Channels.newChannel(output)));
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, 8_990, 9_000), output.toByteArray());
+                try ( MemorySeekableByteChannel subSlice = slice.slice(100, 50_000)) {
+                    Assertions.assertEquals(7_900l, subSlice.size());
+                    Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1_100, 9_000), readAll(subSlice));
+                }
+                Assertions.assertEquals(0l, instance.slice(20_000, 10).size());
+                Assertions.assertThrows(IllegalArgumentException.class, () -> instance.slice(20_001, 10));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> instance.slice(-1, 10));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> instance.slice(0, -1));
+            }
+        }
+    }
+
+    /**
+     * Test of shared chunks release, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When channels share chunks then chunks are copied on write and released only when the last channel is closed")
+    public void testSharedChunksRelease() throws Exception {
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        final List<ByteBuffer> released = new ArrayList<>();
+        final MemorySeekableByteChannel.ChunkAllocator allocator = new MemorySeekableByteChannel.ChunkAllocator() {
+            @Override
+            public ByteBuffer allocate(final int _size) {
+                final ByteBuffer reply = ByteBuffer.allocate(_size);
+                allocated.add(reply);
+                return reply;
+            }
+            @Override
+            public void release(final ByteBuffer _chunk) {
+                released.add(_chunk);
+            }
+        };
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 16, allocator);
+        instance.write(ByteBuffer.wrap(payload(64)));
+        final MemorySeekableByteChannel duplicate = instance.duplicate();
+        final MemorySeekableByteChannel slice = instance.slice(20, 20);
+        Assertions.assertEquals(4, allocated.size());
+        duplicate.write(ByteBuffer.wrap(new byte[]{1}), 40);
+        Assertions.assertEquals(5, allocated.size());
+        Assertions.assertEquals(0, released.size());
+        instance.close();
+        Assertions.assertEquals(0, released.size());
+        slice.close();
+        Assertions.assertEquals(1, released.size());
+        Assertions.assertSame(allocated.get(2), released.get(0));
+        duplicate.close();
+        Assertions.assertEquals(5, released.size());
+    }
+
+    /**
+     * Test of views of spilled channels, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When create views of a spilled channel then the views keep the content after the channel is closed")
+    public void testSpilledViews() throws Exception {
+        final byte[] data = payload(20_000);
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 4096, MemorySeekableByteChannel.ChunkAllocator.HEAP, 5_000);
+        instance.write(ByteBuffer.wrap(data));
+        Assertions.assertTrue(instance.isSpilled());
+        try ( MemorySeekableByteChannel duplicate = instance.duplicate();  MemorySeekableByteChannel slice = instance.slice(10_000, 100)) {
+            instance.write(ByteBuffer.wrap(DATA1), 10_000);
+            instance.close();
+            Assertions.assertFalse(duplicate.isSpilled());
+            Assertions.assertArrayEquals(data, readAll(duplicate));
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 10_000, 10_100), readAll(slice));
+        }
+    }
+
+    /**
+     * Test of views of spilled channels sharing the mapped chunks, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When duplicate a spilled channel then the mapped chunks are shared and the spill file is kept until the last channel is closed")
+    public void testSpilledViewsShareChunks() throws Exception {
+        final byte[] data = payload(20_000);
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        final MemorySeekableByteChannel.ChunkAllocator allocator = _size -> {
+            final ByteBuffer reply = ByteBuffer.allocate(_size);
+            allocated.add(reply);
+            return reply;
+        };
+        final long spillFiles = spillFiles();
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(4096, 4096, allocator, 5_000);
+        instance.write(ByteBuffer.wrap(data));
+        Assertions.assertTrue(instance.isSpilled());
+        final int heapChunks = allocated.size();
+        final MemorySeekableByteChannel duplicate = instance.duplicate();
+        Assertions.assertEquals(heapChunks, allocated.size());
+        Assertions.assertEquals(spillFiles + 1, spillFiles());
+        Assertions.assertArrayEquals(data, readAll(duplicate));
+
+        duplicate.write(ByteBuffer.wrap(DATA1), 0);
+        Assertions.assertEquals(heapChunks + 1, allocated.size());
+        instance.write(ByteBuffer.wrap(DATA1), 10_000);
+        Assertions.assertEquals(spillFiles + 2, spillFiles());
+        instance.truncate(1_000);
+        final byte[] expected = Arrays.copyOf(data, data.length);
+        System.arraycopy(DATA1, 0, expected, 0, DATA1.length);
+        Assertions.assertArrayEquals(expected, readAll(duplicate));
+        Assertions.assertEquals(1_000, instance.size());
+
+        instance.close();
+        Assertions.assertEquals(spillFiles + 1, spillFiles());
+        Assertions.assertArrayEquals(expected, readAll(duplicate));
+        duplicate.close();
+        Assertions.assertEquals(spillFiles, spillFiles());
+    }
+
+    /**
+     * Test of newInputStream method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When read through the input stream view then the content is read from the channel position and closing it closes the channel")
+    public void testNewInputStream() throws Exception {
+        final byte[] data = payload(5_000);
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 1024);
+        instance.write(ByteBuffer.wrap(data));
+        instance.position(10);
+        try ( InputStream input = instance.newInputStream()) {
+            Assertions.assertEquals(4_990, input.available());
+            Assertions.assertEquals(data[10] & 0xFF, input.read());
+            final byte[] buffer = new byte[2_000];
+            Assertions.assertEquals(2_000, input.read(buffer, 0, 2_000));
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 11, 2_011), buffer);
+            Assertions.assertEquals(2_011l, instance.position());
+            Assertions.assertEquals(0, input.read(buffer, 0, 0));
+            Assertions.assertEquals(1_000l, input.skip(1_000));
+            Assertions.assertEquals(data[3_011] & 0xFF, input.read());
+            Assertions.assertEquals(1_988l, input.skip(10_000));
+            Assertions.assertEquals(0, input.available());
+            Assertions.assertEquals(-1, input.read());
+            Assertions.assertEquals(-1, input.read(buffer, 0, 10));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> input.read(buffer, 1_999, 10));
+        }
+        Assertions.assertFalse(instance.isOpen());
+    }
+
+    /**
+     * Test of newOutputStream method, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When write through the output stream view then the content is written at the channel position")
+    public void testNewOutputStream() throws Exception {
+        final byte[] data = payload(5_000);
+        final MemorySeekableByteChannel instance = new MemorySeekableByteChannel(64, 1024);
+        final OutputStream output = instance.newOutputStream();
+        output.write(data[0]);
+        output.write(data, 1, 4_000);
+        for (int ic1 = 4_001; ic1 < data.length; ic1++) {
+            output.write(data[ic1]);
+        }
+        Assertions.assertEquals(data.length, instance.position());
+        Assertions.assertArrayEquals(data, readAll(instance));
+        instance.position(6_000);
+        output.write(7);
+        Assertions.assertEquals(6_001l, instance.size());
+        final ByteBuffer gap = ByteBuffer.allocate(1_001);
+        instance.read(gap, 5_000);
+        Assertions.assertArrayEquals(new byte[1_000], Arrays.copyOf(gap.array(), 1_000));
+        Assertions.assertEquals(7, gap.array()[1_000]);
+        Assertions.assertThrows(NonWritableChannelException.class, () -> instance.asReadOnly().newOutputStream().write(1));
+        output.close();
+        Assertions.assertFalse(instance.isOpen());
+        Assertions.assertThrows(ClosedChannelException.class, () -> output.write(1));
+    }
+
+    /**
+     * Test of stream views with stream based libraries, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When a zip is written and read through the stream views then the entries are preserved")
+    public void testStreamViewsZip() throws Exception {
+        final byte[] data = payload(50_000);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel()) {
+            final ZipOutputStream zip = new ZipOutputStream(instance.newOutputStream());
+            zip.putNextEntry(new ZipEntry("data.bin"));
+            zip.write(data);
+            zip.closeEntry();
+            zip.finish();
+            instance.position(0);
+            try ( ZipInputStream unzip = new ZipInputStream(instance.duplicate().newInputStream())) {
+                Assertions.assertEquals("data.bin", unzip.getNextEntry().getName());
+                final ByteArrayOutputStream content = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4_096];
+                int read;
+                while ((read = unzip.read(buffer)) > 0) {
+                    content.write(buffer, 0, read);
+                }
+                Assertions.assertArrayEquals(data, content.toByteArray());
+            }
+            Assertions.assertTrue(instance.isOpen());
+        }
+    }
+
+    /**
+     * Test of PooledChunkAllocator, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When a channel is closed with a pooled allocator then the next channel reuses its chunks zero filled")
+    public void testPooledAllocatorReuse() throws Exception {
+        final List<ByteBuffer> allocated = new ArrayList<>();
+        final MemorySeekableByteChannel.PooledChunkAllocator pool = new MemorySeekableByteChannel.PooledChunkAllocator(_size -> {
+            final ByteBuffer reply = ByteBuffer.allocate(_size);
+            allocated.add(reply);
+            return reply;
+        });
+        final MemorySeekableByteChannel first = new MemorySeekableByteChannel(16, 16, pool);
+        first.write(ByteBuffer.wrap(payload(100)));
+        Assertions.assertEquals(7, allocated.size());
+        first.truncate(33);
+        Assertions.assertEquals(4 * 16, pool.cachedBytes());
+        first.close();
+        Assertions.assertEquals(7 * 16, pool.cachedBytes());
+
+        final MemorySeekableByteChannel second = new MemorySeekableByteChannel(16, 16, pool);
+        second.write(ByteBuffer.wrap(new byte[1]), 99);
+        Assertions.assertEquals(7, allocated.size());
+        Assertions.assertEquals(0, pool.cachedBytes());
+        final byte[] expected = new byte[100];
+        Assertions.assertArrayEquals(expected, readAll(second));
+        second.close();
+        Assertions.assertEquals(7 * 16, pool.cachedBytes());
+    }
+
+    /**
+     * Test of PooledChunkAllocator limits, of class MemorySeekableByteChannel.
+     */
+    @Test
+    @DisplayName("When the pooled allocator limits are exceeded then the chunks are released to the delegated allocator")
+    public void testPooledAllocatorLimits() throws Exception {
+        final List<ByteBuffer> released = new ArrayList<>();
+        final MemorySeekableByteChannel.PooledChunkAllocator pool = new MemorySeekableByteChannel.PooledChunkAllocator(new MemorySeekableByteChannel.ChunkAllocator() {
+            @Override
+            public ByteBuffer allocate(final int _size) {
+                return ByteBuffer.allocate(_size);
+            }
+            @Override
+            public void release(final ByteBuffer _chunk) {
+                released.add(_chunk);
+            }
+        }, 32, 32);
+        try ( MemorySeekableByteChannel instance = new MemorySeekableByteChannel(16, 16, pool)) {
+            instance.write(ByteBuffer.wrap(payload(100)));
+        }
+        Assertions.assertEquals(2 * 16, pool.cachedBytes());
+        Assertions.assertEquals(32, pool.pooledBytes());
+        Assertions.assertEquals(3, released.size());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Boolean> other = executor.submit(() -> {
+                final ByteBuffer chunk = pool.allocate(16);
+                return released.stream().noneMatch(buffer -> buffer == chunk) && (pool.cachedBytes() == 0);
+            });
+            Assertions.assertTrue(other.get());
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(16, pool.pooledBytes());
+        pool.release(ByteBuffer.allocate(64));
+        Assertions.assertEquals(2 * 16, pool.cachedBytes());
+        Assertions.assertEquals(16, pool.pooledBytes());
+        Assertions.assertEquals(4, released.size());
+
+        pool.clear();
+        Assertions.assertEquals(0, pool.cachedBytes());
+        Assertions.assertEquals(0, pool.pooledBytes());
+        Assertions.assertEquals(7, released.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel.PooledChunkAllocator(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel.PooledChunkAllocator(MemorySeekableByteChannel.ChunkAllocator.HEAP, -1, 32));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemorySeekableByteChannel.PooledChunkAllocator(MemorySeekableByteChannel.ChunkAllocator.HEAP, 32, -1));
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.bytemechanics.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ *
+ * @author afarre
+ */
+public class YAMLPropertyIndexTest {
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        System.out.println(">>>>> YAMLPropertyIndexTest >>>> setup");
+        try ( InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+            LogManager.getLogManager().readConfiguration(inputStream);
+        } catch (final IOException e) {
+            Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+            Logger.getAnonymousLogger().severe(e.getMessage());
+        }
+    }
+
+    @BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+    }
+
+    private static List<YAMLPropertyReader.Property> properties() throws IOException {
+        try ( Reader reader = Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))) {
+            return new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("When the reader builds the index then it contains the same properties than the reader stream")
+    public void testIndex() throws IOException {
+        final List<YAMLPropertyReader.Property> expected = properties();
+        try ( Reader reader = Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))) {
+            final YAMLPropertyIndex instance = new YAMLPropertyReader(reader).index();
+            Assertions.assertEquals(expected.size(), instance.size());
+            Assertions.assertFalse(instance.isEmpty());
+            expected.forEach(property -> Assertions.assertEquals(property.getValue(), instance.get(property.getKey()), property.getKey()));
+            Assertions.assertEquals(expected, instance.stream().collect(Collectors.toList()));
+        }
+        Assertions.assertEquals(expected, YAMLPropertyIndex.of(expected.stream()).stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("When properties are put then they can be retrieved and replaced by key")
+    public void testPutGet() {
+        final YAMLPropertyIndex instance = new YAMLPropertyIndex();
+        Assertions.assertTrue(instance.isEmpty());
+        Assertions.assertNull(instance.put("spec.containers[0].name", "front-end"));
+        Assertions.assertNull(instance.put("spec.containers[1].name", "rss-reader"));
+        Assertions.assertNull(instance.put("spec.containers[*].length", "2"));
+        Assertions.assertNull(instance.put("spec", "root"));
+        Assertions.assertEquals("front-end", instance.put("spec.containers[0].name", "back-end"));
+        Assertions.assertEquals(4, instance.size());
+        Assertions.assertEquals("back-end", instance.get("spec.containers[0].name"));
+        Assertions.assertEquals("2", instance.get("spec.containers[*].length"));
+        Assertions.assertEquals("root", instance.get("spec"));
+        Assertions.assertTrue(instance.containsKey("spec.containers[1].name"));
+        Assertions.assertFalse(instance.containsKey("spec.containers"));
+        Assertions.assertNull(instance.get("spec.containers[2].name"));
+        Assertions.assertNull(instance.get("spec.containers[0].image"));
+        Assertions.assertNull(instance.get("unknown"));
+        Assertions.assertNull(instance.get(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instance.put(null, "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instance.put("key", null));
+    }
+
+    static Stream<Arguments> subtreeDatapack() {
+        return Stream.of(
+                Arguments.of("", Arrays.asList("apiVersion", "kind", "metadata.name", "metadata.labels.app", "spec.containers[0].name", "spec.containers[0].image", "spec.containers[0].ports[0].containerPort", "spec.containers[0].ports[*].length", "spec.containers[1].name", "spec.containers[1].image", "spec.containers[1].ports[0].containerPort", "spec.containers[1].ports[*].length", "spec.containers[1].comments[0]", "spec.containers[1].comments[1]", "spec.containers[1].comments[*].length", "spec.containers[*].length")),
+                Arguments.of("metadata", Arrays.asList("metadata.name", "metadata.labels.app")),
+                Arguments.of("metadata.labels.app", Arrays.asList("metadata.labels.app")),
+                Arguments.of("spec.containers[1].comments", Arrays.asList("spec.containers[1].comments[0]", "spec.containers[1].comments[1]", "spec.containers[1].comments[*].length")),
+                Arguments.of("spec.containers[*].name", Arrays.asList("spec.containers[0].name", "spec.containers[1].name")),
+                Arguments.of("spec.containers[*].ports[*]", Arrays.asList("spec.containers[0].ports[0].containerPort", "spec.containers[0].ports[*].length", "spec.containers[1].ports[0].containerPort", "spec.containers[1].ports[*].length")),
+                Arguments.of("spec.containers[*]", Arrays.asList("spec.containers[0].name", "spec.containers[0].image", "spec.containers[0].ports[0].containerPort", "spec.containers[0].ports[*].length", "spec.containers[1].name", "spec.containers[1].image", "spec.containers[1].ports[0].containerPort", "spec.containers[1].ports[*].length", "spec.containers[1].comments[0]", "spec.containers[1].comments[1]", "spec.containers[1].comments[*].length", "spec.containers[*].length")),
+                Arguments.of("spec.containers[1].comments[1]", Arrays.asList("spec.containers[1].comments[1]")),
+                Arguments.of("spec.containers[2]", Collections.emptyList()),
+                Arguments.of("unknown.key", Collections.emptyList())
+        );
+    }
+
+    @ParameterizedTest(name = "When stream properties below {0} then returns {1}")
+    @MethodSource("subtreeDatapack")
+    public void testStreamPrefix(final String _prefix, final List<String> _keys) throws IOException {
+        final YAMLPropertyIndex instance = YAMLPropertyIndex.of(properties().stream());
+        Assertions.assertEquals(_keys, instance.stream(_prefix).map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("When the index has many children and list items then all of them are found")
+    public void testLarge() {
+        final StringBuilder builder = new StringBuilder("spec:\n  containers:\n");
+        IntStream.range(0, 1_000)
+                .forEach(i -> builder.append("    - name: container-").append(i).append("\n")
+                                    .append("      env:\n")
+                                    .append("        VAR_").append(i % 20).append(": ").append(i).append("\n"));
+        final YAMLPropertyIndex instance = new YAMLPropertyReader(new StringReader(builder.toString())).index();
+        Assertions.assertEquals(2_001, instance.size());
+        IntStream.range(0, 1_000)
+                .forEach(i -> Assertions.assertEquals(String.valueOf(i), instance.get("spec.containers[" + i + "].env.VAR_" + (i % 20))));
+        Assertions.assertEquals("1000", instance.get("spec.containers[*].length"));
+        Assertions.assertEquals(1_000, instance.stream("spec.containers[*].name").count());
+
+        final YAMLPropertyIndex wide = new YAMLPropertyIndex();
+        IntStream.range(0, 100)
+                .forEach(i -> wide.put("key" + i + ".value", String.valueOf(i)));
+        IntStream.range(0, 100)
+                .forEach(i -> Assertions.assertEquals(String.valueOf(i), wide.get("key" + i + ".value")));
+        Assertions.assertEquals(IntStream.range(0, 100).mapToObj(i -> "key" + i + ".value").collect(Collectors.toList()), wide.stream().map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("When list indexes are sparse then the items are stored by index without allocating the gaps")
+    public void testSparse() {
+        final YAMLPropertyIndex instance = new YAMLPropertyIndex();
+        instance.put("list[2]", "2");
+        instance.put("list[999999999]", "last");
+        instance.put("list[0]", "0");
+        instance.put("list[1000]", "1000");
+        instance.put("list[*].length", "1000000000");
+        Assertions.assertEquals(5, instance.size());
+        Assertions.assertEquals("last", instance.get("list[999999999]"));
+        Assertions.assertEquals("1000", instance.get("list[1000]"));
+        Assertions.assertEquals("0", instance.get("list[0]"));
+        Assertions.assertNull(instance.get("list[1]"));
+        Assertions.assertEquals(Arrays.asList("list[0]", "list[2]", "list[1000]", "list[999999999]", "list[*].length"), instance.stream().map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList("list[0]", "list[2]", "list[1000]", "list[999999999]", "list[*].length"), instance.stream("list[*]").map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("When the reader builds the index then it has the same order than the index of the reader stream")
+    public void testIndexOrder() {
+        final String content = "  x:\n- c: v\n- x:\n- a: v\n";
+        final List<YAMLPropertyReader.Property> expected = YAMLPropertyIndex.of(new YAMLPropertyReader(new StringReader(content)).stream()).stream().collect(Collectors.toList());
+        Assertions.assertEquals(expected, new YAMLPropertyReader(new StringReader(content)).index().stream().collect(Collectors.toList()));
+    }
+
+    static Stream<Arguments> invalidIndexDatapack() {
+        return Stream.of(
+                Arguments.of("a[0][x]"),
+                Arguments.of("a[0]["),
+                Arguments.of("a[*][x]"),
+                Arguments.of("b.c[1][2x].d")
+        );
+    }
+
+    @ParameterizedTest(name = "When key {0} has a list index followed by an invalid one then the brackets are kept as part of the name")
+    @MethodSource("invalidIndexDatapack")
+    public void testInvalidIndexChain(final String _key) {
+        final YAMLPropertyIndex instance = new YAMLPropertyIndex();
+        Assertions.assertNull(instance.get(_key));
+        Assertions.assertNull(instance.put(_key, "1"));
+        Assertions.assertEquals("1", instance.get(_key));
+        Assertions.assertNull(instance.get(_key.substring(0, _key.indexOf('[') + 3)));
+        Assertions.assertEquals(Arrays.asList(_key), instance.stream().map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList(_key), instance.stream(_key).map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+
+        final String content = _key + ": 1\n";
+        final List<YAMLPropertyReader.Property> expected = new YAMLPropertyReader(new StringReader(content)).stream().collect(Collectors.toList());
+        final YAMLPropertyIndex index = new YAMLPropertyReader(new StringReader(content)).index();
+        Assertions.assertEquals(expected, index.stream().collect(Collectors.toList()));
+        expected.forEach(property -> Assertions.assertEquals(property.getValue(), index.get(property.getKey())));
+    }
+
+    @Test
+    @DisplayName("When keys have brackets that are not list indexes then they are kept as part of the name")
+    public void testNames() {
+        final YAMLPropertyIndex instance = new YAMLPropertyIndex();
+        instance.put("map[key].value", "1");
+        instance.put("list[0]x", "2");
+        instance.put("list[0][1]", "3");
+        instance.put("", "4");
+        Assertions.assertEquals("1", instance.get("map[key].value"));
+        Assertions.assertEquals("2", instance.get("list[0]x"));
+        Assertions.assertEquals("3", instance.get("list[0][1]"));
+        Assertions.assertEquals("4", instance.get(""));
+        Assertions.assertNull(instance.get("list[0]"));
+        Assertions.assertEquals(Arrays.asList("map[key].value", "list[0]x", "list[0][1]", ""), instance.stream().map(YAMLPropertyReader.Property::getKey).collect(Collectors.toList()));
+    }
+}
@@ -21,14 +21,21 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.Optional;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.bytemechanics.commons.functional.LambdaUnchecker;
 import org.junit.jupiter.api.Assertions;
@@ -204,4 +211,199 @@ public class YAMLPropertyReaderTest {
             Assertions.assertEquals(values.length,cursor.incrementAndGet());
         }
     }
+
+    @ParameterizedTest(name = "When yaml with {0} line terminators is streamed should return the same properties")
+    @ValueSource(strings = {"\n","\r\n","\r"})
+    public void streamLineTerminators(final String _terminator) throws IOException {
+        
+        final List<String> expected=Files.readAllLines(Paths.get("src/test/resources/parse-yaml-complete.yml"));
+        final List<YAMLPropertyReader.Property> values;
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))){
+            values=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+        }
+        try(StringReader reader=new StringReader(String.join(_terminator, expected)+_terminator)){
+            Assertions.assertEquals(values,new YAMLPropertyReader(reader).stream().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void streamLongLines() throws IOException {
+        
+        final String longValue=IntStream.range(0, 20_000)
+                                            .mapToObj(i -> String.valueOf((char)('a'+(i%26))))
+                                            .collect(Collectors.joining());
+        try(StringReader reader=new StringReader("first: "+longValue+"\nsecond:\n  third: "+longValue+" # comment")){
+            final List<YAMLPropertyReader.Property> result=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+            Assertions.assertEquals(2,result.size());
+            Assertions.assertEquals(new YAMLPropertyReader.Property("first", longValue),result.get(0));
+            Assertions.assertEquals(new YAMLPropertyReader.Property("second.third", longValue),result.get(1));
+        }
+    }
+
+    @Test
+    public void streamLargeDocument() throws IOException {
+        
+        final StringBuilder builder=new StringBuilder("kind: List\nspec:\n  containers:\n");
+        IntStream.range(0, 10_000)
+                .forEach(i -> builder.append("    - name: container-").append(i).append("\n")
+                                    .append("      ports:\n")
+                                    .append("        - containerPort: ").append(i).append(" # port\n"));
+        try(StringReader reader=new StringReader(builder.toString())){
+            final List<YAMLPropertyReader.Property> result=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+            Assertions.assertEquals(1+10_000*3+1,result.size());
+            Assertions.assertEquals(new YAMLPropertyReader.Property("spec.containers[9999].name", "container-9999"),result.get(result.size()-4));
+            Assertions.assertEquals(new YAMLPropertyReader.Property("spec.containers[9999].ports[0].containerPort", "9999"),result.get(result.size()-3));
+            Assertions.assertEquals(new YAMLPropertyReader.Property("spec.containers[9999].ports[*].length", "1"),result.get(result.size()-2));
+            Assertions.assertEquals(new YAMLPropertyReader.Property("spec.containers[*].length", "10000"),result.get(result.size()-1));
+        }
+    }
+
+    @Test
+    public void documents() throws IOException {
+        
+        final List<List<YAMLPropertyReader.Property>> expected=Arrays.asList(
+            Arrays.asList(new YAMLPropertyReader.Property("apiVersion", "v1"),
+                            new YAMLPropertyReader.Property("kind", "Service"),
+                            new YAMLPropertyReader.Property("metadata.name", "rss-site")),
+            Arrays.asList(new YAMLPropertyReader.Property("apiVersion", "v1"),
+                            new YAMLPropertyReader.Property("kind", "Pod"),
+                            new YAMLPropertyReader.Property("spec.containers[0].name", "front-end"),
+                            new YAMLPropertyReader.Property("spec.containers[0].image", "nginx"),
+                            new YAMLPropertyReader.Property("spec.containers[1].name", "rss-reader"),
+                            new YAMLPropertyReader.Property("spec.containers[*].length", "2")),
+            Arrays.asList(new YAMLPropertyReader.Property("kind", "ConfigMap"),
+                            new YAMLPropertyReader.Property("data.key", "value")));
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-multidocument.yml"))){
+            Assertions.assertEquals(expected,new YAMLPropertyReader(reader).documents());
+        }
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-multidocument.yml"));
+                Stream<YAMLPropertyReader.Property> result=new YAMLPropertyReader(reader).streamDocuments()){
+            Assertions.assertTrue(result.isParallel());
+            Assertions.assertEquals(expected.stream().flatMap(List::stream).collect(Collectors.toList()),result.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void documentsSingle() throws IOException {
+        
+        final List<YAMLPropertyReader.Property> expected;
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))){
+            expected=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+        }
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))){
+            Assertions.assertEquals(Collections.singletonList(expected),new YAMLPropertyReader(reader).documents());
+        }
+        try(StringReader reader=new StringReader("# nothing\n\n")){
+            Assertions.assertEquals(Collections.emptyList(),new YAMLPropertyReader(reader).documents());
+        }
+        try(StringReader reader=new StringReader("---\r\n---\r\nkey: value\r\n---")){
+            Assertions.assertEquals(Arrays.asList(Collections.emptyList(),Collections.singletonList(new YAMLPropertyReader.Property("key", "value")),Collections.emptyList())
+                                    ,new YAMLPropertyReader(reader).documents());
+        }
+    }
+
+    @Test
+    public void documentsLarge() throws IOException {
+        
+        final StringBuilder builder=new StringBuilder();
+        IntStream.range(0, 500)
+                .forEach(i -> builder.append("---\n")
+                                    .append("kind: Pod\n")
+                                    .append("metadata:\n")
+                                    .append("  name: pod-").append(i).append("\n")
+                                    .append("spec:\n")
+                                    .append("  containers:\n")
+                                    .append("    - name: container-").append(i).append("\n"));
+        try(StringReader reader=new StringReader(builder.toString())){
+            final List<List<YAMLPropertyReader.Property>> result=new YAMLPropertyReader(reader).documents();
+            Assertions.assertEquals(500,result.size());
+            IntStream.range(0, 500)
+                    .forEach(i -> Assertions.assertEquals(Arrays.asList(new YAMLPropertyReader.Property("kind", "Pod"),
+                                                                        new YAMLPropertyReader.Property("metadata.name", "pod-"+i),
+                                                                        new YAMLPropertyReader.Property("spec.containers[0].name", "container-"+i),
+                                                                        new YAMLPropertyReader.Property("spec.containers[*].length", "1"))
+                                                            ,result.get(i)));
+        }
+        try(StringReader reader=new StringReader(builder.toString());
+                Stream<YAMLPropertyReader.Property> result=new YAMLPropertyReader(reader).streamDocuments()){
+            Assertions.assertEquals(IntStream.range(0, 500).mapToObj(i -> "pod-"+i).collect(Collectors.toList())
+                                    ,result.filter(property -> "metadata.name".equals(property.getKey()))
+                                            .map(YAMLPropertyReader.Property::getValue)
+                                            .collect(Collectors.toList()));
+        }
+    }
+
+    @ParameterizedTest(name = "When {0} is read from path should return the same properties than read from reader")
+    @ValueSource(strings = {"src/test/resources/parse-yaml-complete.yml","src/test/resources/parse-yaml-ends.yml"})
+    public void streamPath(final String _file) throws IOException {
+        
+        final List<YAMLPropertyReader.Property> expected;
+        try(Reader reader=Files.newBufferedReader(Paths.get(_file))){
+            expected=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+        }
+        try(YAMLPropertyReader instance=new YAMLPropertyReader(Paths.get(_file));
+                Stream<YAMLPropertyReader.Property> result=instance.stream()){
+            Assertions.assertEquals(expected,result.collect(Collectors.toList()));
+        }
+        try(YAMLPropertyReader instance=new YAMLPropertyReader(Paths.get(_file),false);
+                YAMLPropertyReader readerInstance=new YAMLPropertyReader(Files.newBufferedReader(Paths.get(_file)),false)){
+            Assertions.assertEquals(readerInstance.stream().collect(Collectors.toList()),instance.stream().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void streamPathMapped() throws IOException {
+        
+        final Path file=Files.createTempFile("yaml-mapped", ".yml");
+        try{
+            final StringBuilder builder=new StringBuilder("items:\n");
+            IntStream.range(0, 100_000)
+                        .forEach(i -> builder.append("  - name: item-").append(i).append("\n"));
+            Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+            Assertions.assertTrue(Files.size(file)>(1<<20));
+            final List<YAMLPropertyReader.Property> expected;
+            try(Reader reader=Files.newBufferedReader(file)){
+                expected=new YAMLPropertyReader(reader).stream().collect(Collectors.toList());
+            }
+            final YAMLPropertyReader instance=new YAMLPropertyReader(file);
+            Assertions.assertEquals(expected,instance.stream().collect(Collectors.toList()));
+            instance.close();
+            instance.close();
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void streamPathUTF8() throws IOException {
+        
+        final Path file=Files.createTempFile("yaml-utf8", ".yml");
+        try{
+            final byte[] content=("\uFEFFclé: ünïcödé # 注释\r\nmetadata:\r\n  名前: 値\r\n  labels:\r\n    - émoji 😀\r\n    - ascii").getBytes(StandardCharsets.UTF_8);
+            Files.write(file, content);
+            try(YAMLPropertyReader instance=new YAMLPropertyReader(file)){
+                Assertions.assertEquals(Arrays.asList(new YAMLPropertyReader.Property("clé", "ünïcödé"),
+                                                        new YAMLPropertyReader.Property("metadata.名前", "値"),
+                                                        new YAMLPropertyReader.Property("metadata.labels[0]", "émoji 😀"),
+                                                        new YAMLPropertyReader.Property("metadata.labels[1]", "ascii"),
+                                                        new YAMLPropertyReader.Property("metadata.labels[*].length", "2"))
+                                        ,instance.stream().collect(Collectors.toList()));
+            }
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void documentsPath() throws IOException {
+        
+        final List<List<YAMLPropertyReader.Property>> expected;
+        try(Reader reader=Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-multidocument.yml"))){
+            expected=new YAMLPropertyReader(reader).documents();
+        }
+        try(YAMLPropertyReader instance=new YAMLPropertyReader(Paths.get("src/test/resources/parse-yaml-multidocument.yml"))){
+            Assertions.assertEquals(expected,instance.documents());
+        }
+        Assertions.assertThrows(UncheckedIOException.class,() -> new YAMLPropertyReader(Paths.get("src/test/resources/not-existent.yml")));
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.commons.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.bytemechanics.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ *
+ * @author afarre
+ */
+public class YAMLPropertyWatcherTest {
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        System.out.println(">>>>> YAMLPropertyWatcherTest >>>> setup");
+        try ( InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+            LogManager.getLogManager().readConfiguration(inputStream);
+        } catch (final IOException e) {
+            Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+            Logger.getAnonymousLogger().severe(e.getMessage());
+        }
+    }
+
+    @BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+    }
+
+    private static Path write(final Path _file, final String... _lines) throws IOException {
+        // replace the file atomically to avoid the watcher to load a partially written content
+        final Path temporal = Files.write(_file.resolveSibling(_file.getFileName() + ".tmp"), String.join("\n", _lines).getBytes(StandardCharsets.UTF_8));
+        return Files.move(temporal, _file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Test
+    @DisplayName("When the watcher is created then the file properties are loaded in file order")
+    public void testLoad() throws IOException {
+        final Map<String, String> expected = new LinkedHashMap<>();
+        try ( Reader reader = Files.newBufferedReader(Paths.get("src/test/resources/parse-yaml-complete.yml"))) {
+            new YAMLPropertyReader(reader).stream()
+                    .forEach(property -> expected.put(property.getKey(), property.getValue()));
+        }
+        try ( YAMLPropertyWatcher instance = new YAMLPropertyWatcher(Paths.get("src/test/resources/parse-yaml-complete.yml"))) {
+            Assertions.assertEquals(expected, instance.properties());
+            Assertions.assertEquals(Arrays.asList(expected.keySet().toArray()), Arrays.asList(instance.properties().keySet().toArray()));
+            Assertions.assertEquals(Paths.get("src/test/resources/parse-yaml-complete.yml").toAbsolutePath(), instance.getFile());
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> instance.properties().clear());
+            Assertions.assertFalse(instance.reload().isPresent());
+        }
+        Assertions.assertThrows(UncheckedIOException.class, () -> new YAMLPropertyWatcher(Paths.get("src/test/resources/not-existent.yml")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new YAMLPropertyWatcher(null));
+    }
+
+    @Test
+    @DisplayName("When the file content changes then reload returns the added, changed and removed properties")
+    public void testReload() throws IOException {
+        final Path file = Files.createTempFile("yaml-watcher", ".yml");
+        try ( YAMLPropertyWatcher instance = new YAMLPropertyWatcher(write(file, "kind: Pod", "metadata:", "  name: site", "  labels:", "    app: web"))) {
+            Assertions.assertEquals(3, instance.properties().size());
+
+            write(file, "kind: Pod # comment only", "metadata:", "  name: site", "  labels:", "    app: web");
+            Assertions.assertFalse(instance.reload().isPresent());
+
+            write(file, "kind: Deployment", "metadata:", "  name: site", "  namespace: default");
+            final Optional<YAMLPropertyWatcher.Diff> diff = instance.reload();
+            Assertions.assertTrue(diff.isPresent());
+            Assertions.assertFalse(diff.get().isEmpty());
+            Assertions.assertEquals(Collections.singletonList(new YAMLPropertyReader.Property("metadata.namespace", "default")), diff.get().getAdded());
+            Assertions.assertEquals(Collections.singletonList(new YAMLPropertyReader.Property("kind", "Deployment")), diff.get().getChanged());
+            Assertions.assertEquals(Collections.singletonList(new YAMLPropertyReader.Property("metadata.labels.app", "web")), diff.get().getRemoved());
+            Assertions.assertEquals("Deployment", instance.properties().get("kind"));
+            Assertions.assertFalse(instance.reload().isPresent());
+
+            write(file, "kind: Deployment", "metadata:", "   wrong-tab: site");
+            Assertions.assertThrows(UncheckedIOException.class, () -> instance.reload());
+            Assertions.assertEquals(Arrays.asList("kind", "metadata.name", "metadata.namespace"), instance.properties().keySet().stream().collect(Collectors.toList()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("When the watched file content changes then the listener receives the differences")
+    public void testWatch() throws Exception {
+        final Path directory = Files.createTempDirectory("yaml-watcher");
+        final Path file = write(directory.resolve("config.yml"), "kind: Pod", "metadata:", "  name: site");
+        final BlockingQueue<YAMLPropertyWatcher.Diff> diffs = new LinkedBlockingQueue<>();
+        try ( YAMLPropertyWatcher instance = new YAMLPropertyWatcher(file)) {
+            Assertions.assertSame(instance, instance.watch(diffs::offer));
+            Assertions.assertThrows(IllegalStateException.class, () -> instance.watch(diffs::offer));
+            write(directory.resolve("other.yml"), "kind: Other");
+            write(file, "kind: Pod", "metadata:", "  name: other-site");
+            final YAMLPropertyWatcher.Diff diff = diffs.poll(60, TimeUnit.SECONDS);
+            Assertions.assertNotNull(diff);
+            Assertions.assertEquals(Collections.singletonList(new YAMLPropertyReader.Property("metadata.name", "other-site")), diff.getChanged());
+            Assertions.assertTrue(diff.getAdded().isEmpty());
+            Assertions.assertTrue(diff.getRemoved().isEmpty());
+            Assertions.assertEquals("other-site", instance.properties().get("metadata.name"));
+            instance.close();
+            Assertions.assertThrows(IllegalStateException.class, () -> instance.watch(diffs::offer));
+        } finally {
+            Files.delete(directory.resolve("other.yml"));
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("When the file directory can not be watched then watch fails without keeping the watch service and can be retried")
+    public void testWatchFailure() throws Exception {
+        final Path directory = Files.createTempDirectory("yaml-watcher");
+        final Path file = write(directory.resolve("config.yml"), "kind: Pod");
+        try ( YAMLPropertyWatcher instance = new YAMLPropertyWatcher(file)) {
+            Files.delete(file);
+            Files.delete(directory);
+            Assertions.assertThrows(UncheckedIOException.class, () -> instance.watch(diff -> {}));
+            Files.createDirectory(directory);
+            write(file, "kind: Pod");
+            Assertions.assertSame(instance, instance.watch(diff -> {}));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}